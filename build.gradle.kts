@@ -12,12 +12,32 @@ plugins {
   signing
 }
 
+repositories {
+  mavenCentral()
+}
+
+dependencies {
+  testImplementation("org.junit.jupiter:junit-jupiter:5.10.2")
+  testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
 sourceSets {
   main {
     java {
       srcDirs("src")
     }
   }
+  test {
+    java {
+      srcDirs("test")
+    }
+  }
+}
+
+// the tests compare each operation with BigInteger, see test/
+tasks.test {
+  useJUnitPlatform()
+  maxHeapSize = "2g"
 }
 
 fun getProp(key: String, default: String): String {
@@ -0,0 +1,285 @@
+package org.adligo.math.shared;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+
+import org.adligo.i_math.shared.I_EgcdResult;
+import org.adligo.math.shared.huge.HugeInt;
+
+/**
+ * A subquadratic extended gcd, with a recursive half gcd in the style of 
+ * Schoenhage and Moeller.  Each half gcd reduces it's inputs with the quotients
+ * of their top halves, then checks them against the full values;
+ * when a quotient matrix applied to (a, b) gives a' &gt; b' &gt; 0 the quotients 
+ * are exactly the euclidean quotients of (a, b), since the continued fraction
+ * of a / b is unique.  Otherwise the last quotients are backed out one at a time.
+ * So the cofactors are identical to {@link MathCtx#euclid(BigInteger, BigInteger)}.
+ * Large products go through {@link HugeInt#multiply(org.adligo.i_math.shared.huge.I_HugeInt)}.
+ * 
+ * @author scott<br/>
+ *         <br/>
+ * 
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class HalfGcd {
+  /**
+   * the bit length of the smaller input where {@link MathCtx#egcd(BigInteger, BigInteger)} 
+   * switches from Lehmer to the half gcd 
+   */
+  static final int HGCD_BITS = 1 << 14;
+  /**
+   * the bit length where the half gcd recursion stops and reduces with Lehmer
+   */
+  static final int BASE_BITS = 1 << 11;
+  /**
+   * the bit length of the smaller factor where products go through HugeInt
+   */
+  static final int HUGE_MULTIPLY_BITS = 1 << 17;
+  
+  private HalfGcd() {}
+  
+  /**
+   * @param a greater than or equal to b
+   * @param b positive
+   */
+  static I_EgcdResult egcd(BigInteger a, BigInteger b) {
+    Matrix n = Matrix.IDENTITY;
+    while (b.bitLength() > HGCD_BITS) {
+      Reduction r = hgcd(a, b);
+      if (r.quotients.isEmpty()) {
+        r.step();
+      }
+      n = r.n.multiply(n);
+      a = r.a;
+      b = r.b;
+    }
+    if (b.signum() == 0) {
+      return new EgcdResult(n.n11, n.n12, a);
+    }
+    return MathCtx.lehmer(a, b, n.n11, n.n12, n.n21, n.n22);
+  }
+  
+  /**
+   * @param a greater than b
+   * @param b positive
+   * @return (a, b) reduced by exact euclidean steps, until b has about half of 
+   * the bits of a
+   */
+  static Reduction hgcd(BigInteger a, BigInteger b) {
+    int n = a.bitLength();
+    int s = (n >>> 1) + 1;
+    if (n <= BASE_BITS) {
+      return base(a, b, s);
+    }
+    Reduction r = new Reduction(Matrix.IDENTITY, a, b, new ArrayList<BigInteger>());
+    if (b.bitLength() <= s) {
+      return r;
+    }
+    int m = n >>> 1;
+    r.extend(hgcd(a.shiftRight(m), b.shiftRight(m)));
+    int n2 = ((3 * n) >>> 2) + 1;
+    while (r.a.bitLength() > n2 && r.b.bitLength() > s) {
+      r.step();
+    }
+    if (r.b.bitLength() > s) {
+      int m2 = Math.max(0, (s << 1) - r.a.bitLength() + 1);
+      r.extend(hgcd(r.a.shiftRight(m2), r.b.shiftRight(m2)));
+    }
+    while (r.b.bitLength() > s) {
+      r.step();
+    }
+    return r;
+  }
+  
+  /**
+   * reduces with Lehmer batches and single steps while b has more than s bits,
+   * every quotient is exact for this a and b
+   */
+  private static Reduction base(BigInteger a, BigInteger b, int s) {
+    ArrayList<BigInteger> qs = new ArrayList<BigInteger>();
+    Matrix n = Matrix.IDENTITY;
+    long [] m = new long[4];
+    long [] batch = new long[64];
+    while (b.bitLength() > s) {
+      int steps = 0;
+      if (a.bitLength() < 64) {
+        //the remaining steps, stopping once b is small enough 
+        long x = a.longValue();
+        long y = b.longValue();
+        while (y != 0L && 64 - Long.numberOfLeadingZeros(y) > s) {
+          long q = x / y;
+          long t = x - q * y;
+          x = y;
+          y = t;
+          n = n.step(BigInteger.valueOf(q));
+          qs.add(BigInteger.valueOf(q));
+        }
+        return new Reduction(n, BigInteger.valueOf(x), BigInteger.valueOf(y), qs);
+      }
+      int shift = a.bitLength() - 62;
+      long ah = a.shiftRight(shift).longValue();
+      long bh = b.shiftRight(shift).longValue();
+      long ma = 1L;
+      long mb = 0L;
+      long mc = 0L;
+      long md = 1L;
+      while (steps < batch.length && bh + mc > 0L && bh + md > 0L && ah + ma >= 0L && ah + mb >= 0L) {
+        long q = (ah + ma) / (bh + mc);
+        if (q != (ah + mb) / (bh + md)) {
+          break;
+        }
+        batch[steps++] = q;
+        long t = ma - q * mc;
+        ma = mc;
+        mc = t;
+        t = mb - q * md;
+        mb = md;
+        md = t;
+        t = ah - q * bh;
+        ah = bh;
+        bh = t;
+      }
+      if (steps == 0) {
+        BigInteger[] dnr = a.divideAndRemainder(b);
+        a = b;
+        b = dnr[1];
+        n = n.step(dnr[0]);
+        qs.add(dnr[0]);
+      } else {
+        BigInteger na = MathCtx.combine(ma, a, mb, b);
+        b = MathCtx.combine(mc, a, md, b);
+        a = na;
+        n = new Matrix(MathCtx.combine(ma, n.n11, mb, n.n21), MathCtx.combine(ma, n.n12, mb, n.n22),
+            MathCtx.combine(mc, n.n11, md, n.n21), MathCtx.combine(mc, n.n12, md, n.n22));
+        for (int i = 0; i < steps; i++) {
+          qs.add(BigInteger.valueOf(batch[i]));
+        }
+      }
+    }
+    return new Reduction(n, a, b, qs);
+  }
+  
+  static BigInteger multiply(BigInteger x, BigInteger y) {
+    if (Math.min(x.bitLength(), y.bitLength()) >= HUGE_MULTIPLY_BITS) {
+      return new HugeInt(x).multiply(new HugeInt(y)).toBig();
+    }
+    return x.multiply(y);
+  }
+  
+  /**
+   * A cosequence matrix, which maps a pair to the pair after some euclidean steps,
+   * (a', b') = (n11 * a + n12 * b, n21 * a + n22 * b).
+   */
+  static final class Matrix {
+    static final Matrix IDENTITY = new Matrix(BigInteger.ONE, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ONE);
+    final BigInteger n11;
+    final BigInteger n12;
+    final BigInteger n21;
+    final BigInteger n22;
+    
+    Matrix(BigInteger n11, BigInteger n12, BigInteger n21, BigInteger n22) {
+      this.n11 = n11;
+      this.n12 = n12;
+      this.n21 = n21;
+      this.n22 = n22;
+    }
+    
+    /**
+     * @return this followed by one more step with the quotient q
+     */
+    Matrix step(BigInteger q) {
+      return new Matrix(n21, n22, n11.subtract(q.multiply(n21)), n12.subtract(q.multiply(n22)));
+    }
+    
+    /**
+     * @return this without it's last step, which had the quotient q
+     */
+    Matrix unstep(BigInteger q) {
+      return new Matrix(q.multiply(n11).add(n21), q.multiply(n12).add(n22), n11, n12);
+    }
+    
+    /**
+     * @return other followed by this
+     */
+    Matrix multiply(Matrix other) {
+      return new Matrix(
+          HalfGcd.multiply(n11, other.n11).add(HalfGcd.multiply(n12, other.n21)),
+          HalfGcd.multiply(n11, other.n12).add(HalfGcd.multiply(n12, other.n22)),
+          HalfGcd.multiply(n21, other.n11).add(HalfGcd.multiply(n22, other.n21)),
+          HalfGcd.multiply(n21, other.n12).add(HalfGcd.multiply(n22, other.n22)));
+    }
+  }
+  
+  /**
+   * The exact state of a pair after the quotients, with the matrix of the quotients.
+   */
+  static final class Reduction {
+    Matrix n;
+    BigInteger a;
+    BigInteger b;
+    final ArrayList<BigInteger> quotients;
+    
+    Reduction(Matrix n, BigInteger a, BigInteger b, ArrayList<BigInteger> quotients) {
+      this.n = n;
+      this.a = a;
+      this.b = b;
+      this.quotients = quotients;
+    }
+    
+    /**
+     * one exact euclidean step
+     */
+    void step() {
+      BigInteger[] dnr = a.divideAndRemainder(b);
+      a = b;
+      b = dnr[1];
+      n = n.step(dnr[0]);
+      quotients.add(dnr[0]);
+    }
+    
+    /**
+     * applies the quotients of the top bits of a and b to their full values,
+     * backing out the last quotients until a &gt; b &gt; 0 
+     */
+    void extend(Reduction top) {
+      ArrayList<BigInteger> qs = top.quotients;
+      if (qs.isEmpty()) {
+        return;
+      }
+      Matrix t = top.n;
+      BigInteger x = HalfGcd.multiply(t.n11, a).add(HalfGcd.multiply(t.n12, b));
+      BigInteger y = HalfGcd.multiply(t.n21, a).add(HalfGcd.multiply(t.n22, b));
+      int k = qs.size();
+      while (k > 0 && (y.signum() <= 0 || x.compareTo(y) <= 0)) {
+        BigInteger q = qs.get(--k);
+        BigInteger px = q.multiply(x).add(y);
+        y = x;
+        x = px;
+        t = t.unstep(q);
+      }
+      if (k == 0) {
+        return;
+      }
+      n = t.multiply(n);
+      a = x;
+      b = y;
+      quotients.addAll(qs.subList(0, k));
+    }
+  }
+}
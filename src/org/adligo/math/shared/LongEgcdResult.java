@@ -0,0 +1,96 @@
+package org.adligo.math.shared;
+
+
+import java.math.BigInteger;
+
+import org.adligo.i_math.shared.I_EgcdResult;
+
+/**
+ * A implementation of @see I_EgcdResult that holds long values,
+ * which are only turned into BigIntegers when the I_EgcdResult getters
+ * are called.  Instances are mutable so a hot loop can pass the same one to
+ * {@link MathCtx#egcd(long, long, LongEgcdResult)} without allocating, 
+ * which means they are NOT thread safe. <br/>
+ * <br/>
+ * 
+ * @author scott<br/>
+ *         <br/>
+ * 
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class LongEgcdResult implements I_EgcdResult {
+  private long bca;
+  private long bcb;
+  private long result;
+  
+  /**
+   * a empty holder for {@link MathCtx#egcd(long, long, LongEgcdResult)}
+   */
+  public LongEgcdResult() {}
+  
+  public LongEgcdResult(long bca, long bcb, long result) {
+    this.bca = bca;
+    this.bcb = bcb;
+    this.result = result;
+  }
+
+  /**
+   * @return this
+   */
+  LongEgcdResult set(long bca, long bcb, long result) {
+    this.bca = bca;
+    this.bcb = bcb;
+    this.result = result;
+    return this;
+  }
+  
+  /**
+   * @see I_EgcdResult#getBca()
+   */
+  public BigInteger getBca() {
+    return BigInteger.valueOf(bca);
+  }
+
+  /**
+   * @see I_EgcdResult#getBcb()
+   */
+  public BigInteger getBcb() {
+    return BigInteger.valueOf(bcb);
+  }
+
+  /**
+   * @see I_EgcdResult#getResult()
+   */
+  public BigInteger getResult() {
+    return BigInteger.valueOf(result);
+  }
+
+  public long getBcaLong() {
+    return bca;
+  }
+
+  public long getBcbLong() {
+    return bcb;
+  }
+
+  public long getResultLong() {
+    return result;
+  }
+
+}
@@ -1,75 +1,441 @@
-package org.adligo.math.shared;
-
-import java.math.BigInteger;
-
-import org.adligo.i_math.shared.I_EgcdResult;
-import org.adligo.i_math.shared.I_MathCtx;
-
-/**
- * A implementation of @see I_MathCtx <br/>
- * <br/>
- * 
- * @author scott<br/>
- *         <br/>
- * 
- * <pre><code>
- * ---------------- Apache ICENSE-2.0 --------------------------
- *
- * Copyright 2022 Adligo Inc
- * 
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- * 
- *    http://www.apache.org/licenses/LICENSE-2.0
- * 
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- * </code><pre>
- */
-public class MathCtx implements I_MathCtx {
-
-  /**
-   * @see I_MathCtx#egcd(BigInteger, BigInteger)
-   * Also note I have used the wikipedia example for my variable names
-   * {@link https://en.wikipedia.org/wiki/Extended_Euclidean_algorithm#Example}
-   * Also note the regular ecd was removed from this class because it's in BigInteger itself,
-   * and BigInteger correctly reversed the terms when backwards.
-   */
-  public I_EgcdResult egcd(BigInteger a, BigInteger b) {
-    BigInteger lsi = BigInteger.ONE;
-    BigInteger lti = BigInteger.ZERO;
-    BigInteger si = BigInteger.ZERO;
-    BigInteger ti = BigInteger.ONE;
-    BigInteger lb = BigInteger.ONE;
-    
-    if (a.compareTo(b) <= -1) {
-      BigInteger temp = a;
-      a = b;
-      b = temp;
-    }
-    while (BigInteger.ZERO != b) {
-      lb = b;
-      //System.out.println("a is  " + a.toString(10) + " b is " + b.toString(10));
-      BigInteger[] dnr = a.divideAndRemainder(b);
-      a = b;
-      b = dnr[1];
-      BigInteger d = dnr[0];
-      
-      BigInteger t = si;
-      si = lsi.subtract(d.multiply(si));
-      lsi = t;
-      
-      t = ti;
-      ti = lti.subtract(d.multiply(ti));
-      lti = t;
-      //System.out.println("quotent is  " + dnr[0].toString(10) + " remainder is " + dnr[1].toString(10));
-      //System.out.println("si is  " + si.toString(10) + " ti is " + ti.toString(10));
-    }
-    return new EgcdResult(lsi, lti, lb);
-  }
-
-}
+package org.adligo.math.shared;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.adligo.i_math.shared.I_EgcdResult;
+import org.adligo.i_math.shared.I_MathCtx;
+import org.adligo.math.shared.huge.CrtCtx;
+import org.adligo.math.shared.huge.HugeInt;
+import org.adligo.math.shared.huge.ModCtx;
+
+/**
+ * A implementation of @see I_MathCtx <br/>
+ * <br/>
+ * 
+ * @author scott<br/>
+ *         <br/>
+ * 
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2022 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class MathCtx implements I_MathCtx {
+  public static final int DEFAULT_MOD_CTX_CACHE_SIZE = 64;
+  public static final String THE_MOD_CTX_CACHE_SIZE_MUST_BE_POSITIVE = "The ModCtx cache size must be positive!";
+  public static final int CRT_CTX_CACHE_SIZE = 16;
+  
+  private final int modCtxCacheSize;
+  /**
+   * a access ordered LRU cache, guarded by it's own lock
+   */
+  private final LinkedHashMap<BigInteger, ModCtx> modCtxs;
+  private long modCtxHits;
+  private long modCtxMisses;
+  /**
+   * a access ordered LRU cache of product trees, by their moduli
+   */
+  private final LinkedHashMap<List<BigInteger>, CrtCtx> crtCtxs = 
+      new LinkedHashMap<List<BigInteger>, CrtCtx>(16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<List<BigInteger>, CrtCtx> eldest) {
+      return size() > CRT_CTX_CACHE_SIZE;
+    }
+  };
+  
+  public MathCtx() {
+    this(DEFAULT_MOD_CTX_CACHE_SIZE);
+  }
+  
+  /**
+   * @param modCtxCacheSize the maximum number of moduli to keep
+   * {@link ModCtx}s for, the least recently used is dropped first
+   */
+  public MathCtx(int modCtxCacheSize) {
+    if (modCtxCacheSize <= 0) {
+      throw new IllegalArgumentException(THE_MOD_CTX_CACHE_SIZE_MUST_BE_POSITIVE);
+    }
+    this.modCtxCacheSize = modCtxCacheSize;
+    modCtxs = new LinkedHashMap<BigInteger, ModCtx>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<BigInteger, ModCtx> eldest) {
+        return size() > MathCtx.this.modCtxCacheSize;
+      }
+    };
+  }
+
+  /**
+   * @see I_MathCtx#egcd(BigInteger, BigInteger)
+   * Also note I have used the wikipedia example for my variable names
+   * {@link https://en.wikipedia.org/wiki/Extended_Euclidean_algorithm#Example}
+   * Also note the regular ecd was removed from this class because it's in BigInteger itself,
+   * and BigInteger correctly reversed the terms when backwards.<br/>
+   * Positive inputs are tiered; both fitting in a long runs the euclidean loop on longs 
+   * (see {@link #egcd(long, long, LongEgcdResult)}), larger ones use Lehmer's algorithm and huge ones a half gcd
+   * (see {@link HalfGcd}).  All follow the same quotients as 
+   * {@link #euclid(BigInteger, BigInteger)}, so the results are identical.
+   * Zero and negative inputs use {@link #euclid(BigInteger, BigInteger)}.
+   */
+  public I_EgcdResult egcd(BigInteger a, BigInteger b) {
+    if (a.signum() > 0 && b.signum() > 0) {
+      if (a.bitLength() < 64 && b.bitLength() < 64) {
+        return egcd(a.longValue(), b.longValue(), new LongEgcdResult());
+      }
+      if (a.compareTo(b) <= -1) {
+        BigInteger temp = a;
+        a = b;
+        b = temp;
+      }
+      if (b.bitLength() > HalfGcd.HGCD_BITS) {
+        return HalfGcd.egcd(a, b);
+      }
+      return lehmer(a, b, BigInteger.ONE, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ONE);
+    }
+    return euclid(a, b);
+  }
+  
+  /**
+   * the textbook extended euclidean algorithm, which is the fall back of
+   * {@link #egcd(BigInteger, BigInteger)}
+   */
+  I_EgcdResult euclid(BigInteger a, BigInteger b) {
+    BigInteger lsi = BigInteger.ONE;
+    BigInteger lti = BigInteger.ZERO;
+    BigInteger si = BigInteger.ZERO;
+    BigInteger ti = BigInteger.ONE;
+    BigInteger lb = BigInteger.ONE;
+    
+    if (a.compareTo(b) <= -1) {
+      BigInteger temp = a;
+      a = b;
+      b = temp;
+    }
+    while (b.signum() != 0) {
+      lb = b;
+      BigInteger[] dnr = a.divideAndRemainder(b);
+      a = b;
+      b = dnr[1];
+      BigInteger d = dnr[0];
+      
+      BigInteger t = si;
+      si = lsi.subtract(d.multiply(si));
+      lsi = t;
+      
+      t = ti;
+      ti = lti.subtract(d.multiply(ti));
+      lti = t;
+    }
+    return new EgcdResult(lsi, lti, lb);
+  }
+
+  /**
+   * @see #egcd(long, long, LongEgcdResult)
+   */
+  public LongEgcdResult egcd(long a, long b) {
+    return egcd(a, b, new LongEgcdResult());
+  }
+  
+  /**
+   * The same results as {@link #egcd(BigInteger, BigInteger)}, computed on longs.
+   * @param a
+   * @param b
+   * @param out a holder which is overwritten, so that loops don't need to allocate
+   * @return out
+   */
+  public LongEgcdResult egcd(long a, long b, LongEgcdResult out) {
+    if (a == Long.MIN_VALUE || b == Long.MIN_VALUE) {
+      //the magnitude doesn't fit into a long, the results still do
+      I_EgcdResult r = euclid(BigInteger.valueOf(a), BigInteger.valueOf(b));
+      return out.set(r.getBca().longValueExact(), r.getBcb().longValueExact(), 
+          r.getResult().longValueExact());
+    }
+    long lsi = 1L;
+    long lti = 0L;
+    long si = 0L;
+    long ti = 1L;
+    long lb = 1L;
+    
+    if (a < b) {
+      long temp = a;
+      a = b;
+      b = temp;
+    }
+    while (b != 0L) {
+      lb = b;
+      long q;
+      long r;
+      if (b > 0L && a >= b && a - b < b) {
+        q = 1L;
+        r = a - b;
+      } else {
+        q = a / b;
+        r = a - q * b;
+      }
+      a = b;
+      b = r;
+      
+      long t = si;
+      si = lsi - q * si;
+      lsi = t;
+      
+      t = ti;
+      ti = lti - q * ti;
+      lti = t;
+    }
+    return out.set(lsi, lti, lb);
+  }
+  
+  /**
+   * runs the euclidean loop on a &gt;= b &gt; 0 to the end, 
+   * composing it's quotients into the cosequence matrix m {A, B, C, D}, 
+   * so that the last cofactors are A * lsi + B * si and A * lti + B * ti.
+   * The entries are bounded by a / gcd, so they don't overflow. 
+   * @return the gcd
+   */
+  static long euclid(long a, long b, long [] m) {
+    long ma = m[0];
+    long mb = m[1];
+    long mc = m[2];
+    long md = m[3];
+    while (b != 0L) {
+      long q;
+      long r = a - b;
+      if (r < b) {
+        q = 1L;
+      } else {
+        q = a / b;
+        r = a - q * b;
+      }
+      a = b;
+      b = r;
+      long t = ma - q * mc;
+      ma = mc;
+      mc = t;
+      t = mb - q * md;
+      mb = md;
+      md = t;
+    }
+    m[0] = ma;
+    m[1] = mb;
+    m[2] = mc;
+    m[3] = md;
+    return a;
+  }
+  
+  /**
+   * Lehmer's algorithm (Knuth's Algorithm L, The Art of Computer Programming Vol 2, 4.5.2),
+   * simulating the quotients on the leading 62 bits (a double 32 bit BigInteger digit)
+   * and applying them to the full values and cofactors a batch at a time.
+   * Knuth's check only accepts quotients that are the true quotients, 
+   * so the cofactors are identical to {@link #euclid(BigInteger, BigInteger)}.
+   * @param a positive, and greater than or equal to b
+   * @param b positive
+   * @param lsi the cofactors of the steps so far, starting at 1, 0, 0, 1 
+   */
+  static I_EgcdResult lehmer(BigInteger a, BigInteger b, BigInteger lsi, BigInteger lti, 
+      BigInteger si, BigInteger ti) {
+    long [] m = new long[4];
+    while (b.signum() != 0) {
+      if (a.bitLength() < 64) {
+        m[0] = 1L;
+        m[1] = 0L;
+        m[2] = 0L;
+        m[3] = 1L;
+        long gcd = euclid(a.longValue(), b.longValue(), m);
+        return new EgcdResult(combine(m[0], lsi, m[1], si), combine(m[0], lti, m[1], ti), 
+            BigInteger.valueOf(gcd));
+      }
+      int shift = a.bitLength() - 62;
+      long ah = a.shiftRight(shift).longValue();
+      long bh = b.shiftRight(shift).longValue();
+      long ma = 1L;
+      long mb = 0L;
+      long mc = 0L;
+      long md = 1L;
+      while (bh + mc > 0L && bh + md > 0L && ah + ma >= 0L && ah + mb >= 0L) {
+        long q = (ah + ma) / (bh + mc);
+        if (q != (ah + mb) / (bh + md)) {
+          break;
+        }
+        long t = ma - q * mc;
+        ma = mc;
+        mc = t;
+        t = mb - q * md;
+        mb = md;
+        md = t;
+        t = ah - q * bh;
+        ah = bh;
+        bh = t;
+      }
+      if (mb == 0L) {
+        BigInteger[] dnr = a.divideAndRemainder(b);
+        a = b;
+        b = dnr[1];
+        BigInteger d = dnr[0];
+        
+        BigInteger t = si;
+        si = lsi.subtract(d.multiply(si));
+        lsi = t;
+        
+        t = ti;
+        ti = lti.subtract(d.multiply(ti));
+        lti = t;
+      } else {
+        BigInteger na = combine(ma, a, mb, b);
+        b = combine(mc, a, md, b);
+        a = na;
+        BigInteger t = combine(ma, lsi, mb, si);
+        si = combine(mc, lsi, md, si);
+        lsi = t;
+        t = combine(ma, lti, mb, ti);
+        ti = combine(mc, lti, md, ti);
+        lti = t;
+      }
+    }
+    return new EgcdResult(lsi, lti, a);
+  }
+  
+  /**
+   * @return x * p + y * q
+   */
+  static BigInteger combine(long x, BigInteger p, long y, BigInteger q) {
+    return p.multiply(BigInteger.valueOf(x)).add(q.multiply(BigInteger.valueOf(y)));
+  }
+
+  /**
+   * @param modulus a positive modulus
+   * @return a cached {@link ModCtx} with the Montgomery or Barrett 
+   * constants for the modulus, which is created on a miss
+   */
+  public ModCtx getModCtx(BigInteger modulus) {
+    synchronized (modCtxs) {
+      ModCtx r = modCtxs.get(modulus);
+      if (r != null) {
+        modCtxHits++;
+        return r;
+      }
+      modCtxMisses++;
+    }
+    //compute outside of the lock, a race only computes the same constants twice
+    ModCtx r = new ModCtx(modulus);
+    synchronized (modCtxs) {
+      ModCtx existing = modCtxs.putIfAbsent(modulus, r);
+      return existing == null ? r : existing;
+    }
+  }
+  
+  /**
+   * @param base
+   * @param exponent
+   * @param modulus a positive modulus
+   * @return base^exponent mod modulus, using the cached {@link ModCtx} 
+   */
+  public BigInteger modPow(BigInteger base, BigInteger exponent, BigInteger modulus) {
+    return getModCtx(modulus).pow(base, exponent);
+  }
+  
+  /**
+   * @param a
+   * @param b
+   * @param modulus a positive modulus
+   * @return a * b mod modulus, using the cached {@link ModCtx} 
+   */
+  public BigInteger modMultiply(BigInteger a, BigInteger b, BigInteger modulus) {
+    return getModCtx(modulus).multiply(a, b);
+  }
+
+  /**
+   * Inverts all of the values with one {@link #egcd(BigInteger, BigInteger)} per batch
+   * and the cached {@link ModCtx}, see {@link ModCtx#inverse(BigInteger[], I_MathCtx)}.
+   * @param values
+   * @param modulus a positive modulus
+   * @return the inverse of each value mod the modulus, from zero to modulus - 1,
+   * or null for each value that is a zero divisor (shares a factor with the modulus)
+   */
+  public BigInteger[] modInverse(BigInteger[] values, BigInteger modulus) {
+    return getModCtx(modulus).inverse(values, this);
+  }
+
+  /**
+   * @see #modInverse(BigInteger[], BigInteger)
+   */
+  public BigInteger[] modInverse(Stream<BigInteger> values, BigInteger modulus) {
+    return modInverse(values.toArray(BigInteger[]::new), modulus);
+  }
+
+  /**
+   * @param moduli positive pairwise coprime moduli
+   * @return a cached {@link CrtCtx} with the product tree of the moduli, 
+   * which is created on a miss
+   */
+  public CrtCtx getCrtCtx(BigInteger[] moduli) {
+    List<BigInteger> key = Arrays.asList(moduli.clone());
+    synchronized (crtCtxs) {
+      CrtCtx r = crtCtxs.get(key);
+      if (r != null) {
+        return r;
+      }
+    }
+    //compute outside of the lock, a race only builds the same tree twice
+    CrtCtx r = new CrtCtx(moduli, this);
+    synchronized (crtCtxs) {
+      CrtCtx existing = crtCtxs.putIfAbsent(key, r);
+      return existing == null ? r : existing;
+    }
+  }
+  
+  /**
+   * @param residues one for each modulus, in the same order
+   * @param moduli positive pairwise coprime moduli
+   * @return the x from zero to the product of the moduli - 1 with 
+   * x mod moduli[i] = residues[i] mod moduli[i], using the cached {@link CrtCtx}
+   */
+  public HugeInt crt(BigInteger[] residues, BigInteger[] moduli) {
+    return getCrtCtx(moduli).solve(residues);
+  }
+  
+  public int getModCtxCacheSize() {
+    return modCtxCacheSize;
+  }
+  
+  /**
+   * @return the number of {@link #getModCtx(BigInteger)} calls that were cached
+   */
+  public long getModCtxHits() {
+    synchronized (modCtxs) {
+      return modCtxHits;
+    }
+  }
+  
+  /**
+   * @return the number of {@link #getModCtx(BigInteger)} calls that created a ModCtx
+   */
+  public long getModCtxMisses() {
+    synchronized (modCtxs) {
+      return modCtxMisses;
+    }
+  }
+
+}
@@ -0,0 +1,52 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+import org.adligo.i_math.shared.IntType;
+
+/**
+ * AbstractDelegate
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+abstract class AbstractDelegate {
+	
+	public boolean isInRam() {
+		return true;
+	}
+	
+	public IntType getType() {
+		return IntType.Big;
+	}
+	
+	public boolean isNegative() {
+		return false;
+	}
+	public abstract Stream<BigInteger> toStream(boolean littleToBig);
+	
+	/**
+	 * @return the magnitude as limbs, see {@link Limbs}
+	 */
+	public abstract long[] toLimbs();
+}
@@ -0,0 +1,186 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.adligo.i_math.shared.IntType;
+
+/**
+ * The base class for delegates that hold values that are larger than a single 
+ * chunk as little endian long limbs and a sign, see {@link Limbs}.
+ * Limbs past the end of the value read as zero.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+abstract class AbstractLimbDelegate extends AbstractDelegate {
+	protected final boolean negative;
+	
+	AbstractLimbDelegate(boolean negative) {
+		this.negative = negative;
+	}
+	
+	/**
+	 * @return the number of limbs, the most significant limb is never zero
+	 */
+	abstract long limbLength();
+	
+	abstract long limb(long index);
+	
+	/**
+	 * @param a
+	 * @param b
+	 * @return -1, 0 or 1 as the magnitude of a is less than, equal to or greater than b
+	 */
+	static int compareMagnitude(AbstractLimbDelegate a, AbstractLimbDelegate b) {
+		long al = a.limbLength();
+		long bl = b.limbLength();
+		if (al != bl) {
+			return al < bl ? -1 : 1;
+		}
+		for (long i = al - 1; i >= 0; i--) {
+			long x = a.limb(i);
+			long y = b.limb(i);
+			if (x != y) {
+				return Long.compareUnsigned(x, y) < 0 ? -1 : 1;
+			}
+		}
+		return 0;
+	}
+	
+	long bitLength() {
+		long len = limbLength();
+		if (len == 0) {
+			return 0;
+		}
+		return (len << 6) - Long.numberOfLeadingZeros(limb(len - 1));
+	}
+	
+	/**
+	 * scans up from the least significant limb, stores with an index override this
+	 * @return the index of the lowest non zero limb, or -1 when the value is zero
+	 */
+	long lowestLimb() {
+		long len = limbLength();
+		for (long i = 0; i < len; i++) {
+			if (limb(i) != 0L) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * reads every limb, stores with an index override this
+	 * @return the number of set bits in the magnitude
+	 */
+	long magnitudeBitCount() {
+		long len = limbLength();
+		long r = 0;
+		for (long i = 0; i < len; i++) {
+			r += Long.bitCount(limb(i));
+		}
+		return r;
+	}
+	
+	/**
+	 * @param bitOffset
+	 * @return the 64 bits starting at the bitOffset
+	 */
+	long getBits(long bitOffset) {
+		long w = bitOffset >>> 6;
+		int s = (int) (bitOffset & 63);
+		long r = limb(w) >>> s;
+		if (s != 0) {
+			r |= limb(w + 1) << (64 - s);
+		}
+		return r;
+	}
+	
+	long chunkCount() {
+		return (bitLength() + Limbs.CHUNK_BITS - 1) / Limbs.CHUNK_BITS;
+	}
+	
+	/**
+	 * @param index
+	 * @return the chunk at the index, where chunk zero
+	 * is the least significant {@link Limbs#CHUNK_BITS} bits.
+	 */
+	BigInteger chunk(long index) {
+		long start = index * Limbs.CHUNK_BITS;
+		int words = (Limbs.CHUNK_BITS + 63) >>> 6;
+		long [] r = new long[words];
+		for (int i = 0; i < words; i++) {
+			r[i] = getBits(start + ((long) i << 6));
+		}
+		int extra = (words << 6) - Limbs.CHUNK_BITS;
+		if (extra != 0) {
+			r[words - 1] &= -1L >>> extra;
+		}
+		return Limbs.toBig(Limbs.normalize(r, words), false);
+	}
+	
+	/**
+	 * @param littleToBig
+	 * @return a sized stream of the chunks, which can be made parallel
+	 */
+	public Stream<BigInteger> toStream(boolean littleToBig) {
+		return StreamSupport.stream(new ChunkSpliterator(this, littleToBig, 0, chunkCount()), false);
+	}
+	
+	/**
+	 * @param parallel
+	 * @return a sized stream of the limbs from little to big
+	 */
+	LongStream toLimbStream(boolean parallel) {
+		return StreamSupport.longStream(new LimbSpliterator(this, 0, limbLength()), parallel);
+	}
+	
+	public IntType getType() {
+		return IntType.Huge;
+	}
+	
+	public boolean isNegative() {
+		return negative;
+	}
+	
+	public BigInteger toBigInteger() {
+		if (bitLength() >= Integer.MAX_VALUE) {
+			throw new IllegalStateException(HugeInt.THIS_HUGE_INT_DOESN_T_FIT_INTO_A_BIG_INTEGER);
+		}
+		return Limbs.toBig(toLimbs(), isNegative());
+	}
+	
+	public long[] toLimbs() {
+		long len = limbLength();
+		if (len > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException(HugeInt.THIS_HUGE_INT_DOESN_T_FIT_INTO_A_BIG_INTEGER);
+		}
+		long [] r = new long[(int) len];
+		for (int i = 0; i < r.length; i++) {
+			r[i] = limb(i);
+		}
+		return r;
+	}
+}
@@ -0,0 +1,76 @@
+package org.adligo.math.shared.huge;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Adds two magnitudes from little to big, propagating the carry
+ * from each limb into the next more significant one.
+ * Only the carry is held, and the cursor ends after the longer 
+ * operand (and any final carry).  Same sign adds that aren't spread over
+ * the fork join pool stream through this, when either operand is off heap 
+ * or mapped (see {@link BufferLimbs#add(AbstractLimbDelegate, AbstractLimbDelegate)})
+ * or isn't a HugeInt, while in heap limb arrays use {@link Limbs#add(long[], long[])}.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+class AddStream implements I_LimbCursor {
+	private final I_LimbCursor l;
+	private final I_LimbCursor r;
+	private long carry = 0L;
+	
+	/**
+	 * @param l from little to big
+	 * @param r from little to big
+	 */
+	AddStream(I_LimbCursor l, I_LimbCursor r) {
+		this.l = l;
+		this.r = r;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return carry != 0L || l.hasNext() || r.hasNext();
+	}
+
+	@Override
+	public long next() {
+		boolean lh = l.hasNext();
+		boolean rh = r.hasNext();
+		if (!lh && !rh) {
+			if (carry == 0L) {
+				throw new NoSuchElementException();
+			}
+			carry = 0L;
+			return 1L;
+		}
+		long x = lh ? l.next() : 0L;
+		long s = x + (rh ? r.next() : 0L);
+		long c = Long.compareUnsigned(s, x) < 0 ? 1L : 0L;
+		long s2 = s + carry;
+		if (s2 == 0L && carry == 1L) {
+			c = 1L;
+		}
+		carry = c;
+		return s2;
+	}
+}
@@ -0,0 +1,161 @@
+package org.adligo.math.shared.huge;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.adligo.i_math.shared.huge.I_HugeInt;
+
+/**
+ * Sums and products of many values, as balanced trees so that the operands 
+ * of each add or multiply stay about the same size, instead of folding every value
+ * into one growing result.  Subtrees with enough limbs run as fork join tasks.
+ * Sums accumulate runs of {@link #SUM_LEAF_VALUES} values into a {@link HugeIntBuffer}
+ * before adding the runs up the tree.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class BalancedTree {
+	/**
+	 * subtrees with at least this many limbs in their values are forked
+	 */
+	static final long FORK_LIMBS = 1 << 12;
+	/**
+	 * the most values accumulated into one buffer
+	 */
+	static final int SUM_LEAF_VALUES = 256;
+	
+	private BalancedTree() {}
+	
+	/**
+	 * @param values
+	 * @return the product of the values, one when there are none
+	 */
+	static HugeInt product(I_HugeInt[] values) {
+		if (values.length == 0) {
+			return HugeInt.ONE;
+		}
+		HugeInt[] hs = new HugeInt[values.length];
+		long [] limbs = new long[values.length + 1];
+		for (int i = 0; i < values.length; i++) {
+			I_HugeInt v = values[i];
+			hs[i] = v instanceof HugeInt ? (HugeInt) v : HugeInt.valueOf(HugeInt.toLimbs(v), !v.isPositive());
+			limbs[i + 1] = limbs[i] + HugeInt.limbed(hs[i]).limbLength();
+		}
+		ProductTask task = new ProductTask(hs, limbs, 0, hs.length);
+		if (limbs[hs.length] >= FORK_LIMBS) {
+			return ForkJoinPool.commonPool().invoke(task);
+		}
+		return task.compute();
+	}
+	
+	/**
+	 * @param values
+	 * @return the sum of the values, zero when there are none
+	 */
+	static HugeInt sum(I_HugeInt[] values) {
+		long [] limbs = new long[values.length + 1];
+		for (int i = 0; i < values.length; i++) {
+			limbs[i + 1] = limbs[i] + HugeInt.limbed(values[i]).limbLength();
+		}
+		SumTask task = new SumTask(values, limbs, 0, values.length);
+		if (limbs[values.length] >= FORK_LIMBS && values.length > SUM_LEAF_VALUES) {
+			return ForkJoinPool.commonPool().invoke(task);
+		}
+		return task.compute();
+	}
+	
+	private static class ProductTask extends RecursiveTask<HugeInt> {
+		private static final long serialVersionUID = 1L;
+		private final transient HugeInt[] values;
+		/**
+		 * the running total of the limb lengths of the values
+		 */
+		private final long [] limbs;
+		private final int from;
+		private final int to;
+		
+		ProductTask(HugeInt[] values, long [] limbs, int from, int to) {
+			this.values = values;
+			this.limbs = limbs;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected HugeInt compute() {
+			if (to - from == 1) {
+				return values[from];
+			}
+			int mid = (from + to) >>> 1;
+			ProductTask l = new ProductTask(values, limbs, from, mid);
+			ProductTask r = new ProductTask(values, limbs, mid, to);
+			if (limbs[to] - limbs[from] >= FORK_LIMBS) {
+				l.fork();
+				HugeInt right = r.compute();
+				return l.join().multiply(right);
+			}
+			return l.compute().multiply(r.compute());
+		}
+	}
+	
+	private static class SumTask extends RecursiveTask<HugeInt> {
+		private static final long serialVersionUID = 1L;
+		private final transient I_HugeInt[] values;
+		/**
+		 * the running total of the limb lengths of the values
+		 */
+		private final long [] limbs;
+		private final int from;
+		private final int to;
+		
+		SumTask(I_HugeInt[] values, long [] limbs, int from, int to) {
+			this.values = values;
+			this.limbs = limbs;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected HugeInt compute() {
+			if (to - from <= SUM_LEAF_VALUES) {
+				HugeIntBufferPool pool = HugeIntBufferPool.local();
+				HugeIntBuffer sum = pool.borrow();
+				for (int i = from; i < to; i++) {
+					sum.accumulate(values[i]);
+				}
+				HugeInt r = sum.toHugeInt();
+				pool.release(sum);
+				return r;
+			}
+			int mid = (from + to) >>> 1;
+			SumTask l = new SumTask(values, limbs, from, mid);
+			SumTask r = new SumTask(values, limbs, mid, to);
+			if (limbs[to] - limbs[from] >= FORK_LIMBS) {
+				l.fork();
+				HugeInt right = r.compute();
+				return (HugeInt) l.join().add(right);
+			}
+			return (HugeInt) l.compute().add(r.compute());
+		}
+	}
+}
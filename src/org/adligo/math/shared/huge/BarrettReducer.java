@@ -0,0 +1,74 @@
+package org.adligo.math.shared.huge;
+
+/**
+ * Barrett reduction for any modulus, with mu = B^2n / m, 
+ * where n is the number of limbs in the modulus.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+class BarrettReducer extends Reducer {
+	private final int n;
+	private final long [] mu;
+	private final long [] one = new long[] {1L};
+	
+	BarrettReducer(long [] m) {
+		super(m);
+		n = m.length;
+		long [] b2n = new long[(n << 1) + 1];
+		b2n[n << 1] = 1L;
+		mu = Divide.divideAndRemainder(b2n, m)[0];
+	}
+	
+	@Override
+	long[] mod(long [] x) {
+		if (x.length > n << 1) {
+			return super.mod(x);
+		}
+		long [] q = Multiply.slice(Multiply.multiply(Multiply.slice(x, n - 1, x.length), mu), n + 1, Integer.MAX_VALUE);
+		long [] r = Limbs.subtract(x, Multiply.multiply(q, m));
+		while (Limbs.compare(r, m) >= 0) {
+			r = Limbs.subtract(r, m);
+		}
+		return r;
+	}
+	
+	@Override
+	long[] toForm(long [] x) {
+		return x;
+	}
+	
+	@Override
+	long[] fromForm(long [] x) {
+		return x;
+	}
+	
+	@Override
+	long[] multiply(long [] a, long [] b) {
+		return mod(Multiply.multiply(a, b));
+	}
+	
+	@Override
+	long[] one() {
+		return one;
+	}
+}
@@ -0,0 +1,176 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.adligo.i_math.shared.I_EgcdResult;
+import org.adligo.i_math.shared.I_MathCtx;
+
+/**
+ * Inverts many values under the same modulus with Montgomery's simultaneous 
+ * inversion trick; the running products of the values are inverted with a single 
+ * {@link I_MathCtx#egcd(BigInteger, BigInteger)}, and each inverse is then peeled off
+ * the inverted product, for about 3(n - 1) multiplications by the {@link Reducer}.<br/>
+ * The values are never converted into Montgomery form; with x * y = xyR^-1 
+ * the running products pick up powers of R^-1, but the inverse of the last product
+ * times the prior product cancels them, so each inverse comes out exact.
+ * Barrett reducers multiply with R = 1, so the same steps work for them.<br/>
+ * Batches larger than {@link #LEAF_VALUES} are split into fork join tasks, 
+ * with one egcd per task.
+ * 
+ * @author scott<br/>
+ *         <br/>
+ * 
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class BatchInverse {
+	/**
+	 * the most values that are inverted together by one task
+	 */
+	static final int LEAF_VALUES = 512;
+	
+	private BatchInverse() {}
+	
+	/**
+	 * @param ctx supplies the egcd
+	 * @param reducer
+	 * @param values
+	 * @return the inverses, with null for the values that share a factor with the modulus
+	 */
+	static BigInteger[] modInverse(I_MathCtx ctx, Reducer reducer, BigInteger[] values) {
+		BigInteger[] r = new BigInteger[values.length];
+		if (values.length <= LEAF_VALUES) {
+			invert(ctx, reducer, values, r, 0, values.length);
+		} else {
+			ForkJoinPool.commonPool().invoke(new InverseTask(ctx, reducer, values, r, 0, values.length));
+		}
+		return r;
+	}
+	
+	/**
+	 * writes the inverses of values[from] until values[to] into out
+	 */
+	static void invert(I_MathCtx ctx, Reducer reducer, BigInteger[] values, BigInteger[] out, 
+			int from, int to) {
+		long [] m = reducer.getModulus();
+		long [][] reduced = new long[to - from][];
+		for (int i = from; i < to; i++) {
+			BigInteger v = values[i];
+			long [] x = Limbs.fromBig(v);
+			if (Limbs.compare(x, m) >= 0) {
+				x = reducer.mod(x);
+			}
+			if (v.signum() < 0 && x.length != 0) {
+				x = Limbs.subtract(m, x);
+			}
+			//zero is a zero divisor, which egcd wouldn't report
+			reduced[i - from] = x.length == 0 ? null : x;
+		}
+		long [][] prefix = new long[reduced.length][];
+		long [] inverse = invertProducts(ctx, reducer, reduced, prefix);
+		if (inverse == null) {
+			//some value shares a factor with the modulus, find them and retry without them
+			BigInteger modulus = Limbs.toBig(m, false);
+			for (int i = 0; i < reduced.length; i++) {
+				if (reduced[i] != null && !BigInteger.ONE.equals(Limbs.toBig(reduced[i], false).gcd(modulus))) {
+					reduced[i] = null;
+				}
+			}
+			inverse = invertProducts(ctx, reducer, reduced, prefix);
+		}
+		int i = reduced.length - 1;
+		while (i >= 0 && reduced[i] == null) {
+			i--;
+		}
+		while (i >= 0) {
+			int prior = i - 1;
+			while (prior >= 0 && reduced[prior] == null) {
+				prior--;
+			}
+			if (prior < 0) {
+				out[from + i] = Limbs.toBig(inverse, false);
+			} else {
+				out[from + i] = Limbs.toBig(reducer.multiply(inverse, prefix[prior]), false);
+				inverse = reducer.multiply(inverse, reduced[i]);
+			}
+			i = prior;
+		}
+	}
+	
+	/**
+	 * fills prefix with the running products of the non null values
+	 * @return the inverse of the last product, or null when it 
+	 * shares a factor with the modulus
+	 */
+	private static long[] invertProducts(I_MathCtx ctx, Reducer reducer, long [][] reduced, 
+			long [][] prefix) {
+		long [] product = null;
+		for (int i = 0; i < reduced.length; i++) {
+			long [] v = reduced[i];
+			if (v != null) {
+				product = product == null ? v : reducer.multiply(product, v);
+				prefix[i] = product;
+			}
+		}
+		if (product == null) {
+			return Limbs.EMPTY;
+		} else if (product.length == 0) {
+			return null;
+		}
+		//the modulus is the larger input, so bcb is the cofactor of the product
+		BigInteger modulus = Limbs.toBig(reducer.getModulus(), false);
+		I_EgcdResult r = ctx.egcd(modulus, Limbs.toBig(product, false));
+		if (!BigInteger.ONE.equals(r.getResult())) {
+			return null;
+		}
+		return Limbs.fromBig(r.getBcb().mod(modulus));
+	}
+	
+	private static class InverseTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final transient I_MathCtx ctx;
+		private final transient Reducer reducer;
+		private final BigInteger[] values;
+		private final BigInteger[] out;
+		private final int from;
+		private final int to;
+		
+		InverseTask(I_MathCtx ctx, Reducer reducer, BigInteger[] values, BigInteger[] out, 
+				int from, int to) {
+			this.ctx = ctx;
+			this.reducer = reducer;
+			this.values = values;
+			this.out = out;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute() {
+			if (to - from <= LEAF_VALUES) {
+				invert(ctx, reducer, values, out, from, to);
+			} else {
+				int mid = (from + to) >>> 1;
+				invokeAll(new InverseTask(ctx, reducer, values, out, from, mid), 
+						new InverseTask(ctx, reducer, values, out, mid, to));
+			}
+		}
+	}
+}
@@ -1,9 +1,8 @@
 package org.adligo.math.shared.huge;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.adligo.i_math.shared.huge.HugeConstants;
@@ -45,21 +44,30 @@ public class BigIntegerBuilder {
 		return new BigInteger(bytes);
 	}
 	
+	/**
+	 * slices windows of {@link HugeConstants#MAX_CHUNK_BYTES} out of the bytes of the magnitude,
+	 * so that each chunk is only created when the stream gets to it, 
+	 * with out the hex strings and their copies 
+	 * @param b
+	 * @return a sized stream of the chunks from little to big, 
+	 * where the most significant chunk is negated when b is negative
+	 */
 	public static Stream<BigInteger> split(BigInteger b) {
-		String hexString = b.toString(16);
-		List<BigInteger> rl = new ArrayList<>();
-		while (hexString.length() / 2 >= HugeConstants.MAX_CHUNK_BYTES) {
-			String littleHex = hexString.substring(hexString.length() - (HugeConstants.MAX_CHUNK_BYTES * 2), 
-					hexString.length());
-			BigInteger n = new BigInteger(littleHex, 16);
-			rl.add(n);
-			hexString = hexString.substring(0, hexString.length() - (HugeConstants.MAX_CHUNK_BYTES * 2));
-		}
-		if (hexString.length() >= 1) {
-			BigInteger n = new BigInteger(hexString, 16);
-			rl.add(n);
+		byte [] bytes = b.abs().toByteArray();
+		int start = 0;
+		while (start < bytes.length && bytes[start] == 0) {
+			start++;
 		}
-		return rl.stream();
+		int first = start;
+		int size = HugeConstants.MAX_CHUNK_BYTES;
+		int chunks = Math.max(1, (bytes.length - start + size - 1) / size);
+		boolean negative = b.signum() < 0;
+		return IntStream.range(0, chunks).mapToObj((i) -> {
+			int end = bytes.length - i * size;
+			int from = Math.max(first, end - size);
+			BigInteger c = new BigInteger(1, bytes, from, end - from);
+			return negative && i == chunks - 1 ? c.negate() : c;
+		});
 	}
 
 	public static String toHexWithPad(BigInteger b) {
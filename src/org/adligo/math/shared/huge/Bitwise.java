@@ -0,0 +1,249 @@
+package org.adligo.math.shared.huge;
+
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Shifts and bitwise logic on signed values with the two's complement
+ * semantics of BigInteger, streamed limb by limb straight from the delegates
+ * into the result, so that the working memory is a few longs no matter
+ * how large the operands are.<br/>
+ * The two's complement of a negative magnitude m is 0 below it's lowest
+ * non zero limb z, -m[z] at z and ~m[i] above z, so once z is known
+ * (off heap and mapped stores index it) every limb of the result only
+ * depends on the limbs at the same position of the operands, and large
+ * results are written by blocks on the fork join pool.  Negative results
+ * are converted back to a magnitude the same way.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class Bitwise {
+	/**
+	 * the number of limbs in the result, where the limbs are written
+	 * by blocks on the fork join pool
+	 */
+	static final int PARALLEL_LIMBS = HugeInt.PARALLEL_ADD_LIMBS;
+
+	enum Op {
+		AND, OR, XOR, AND_NOT;
+
+		long apply(long x, long y) {
+			switch (this) {
+				case AND:
+					return x & y;
+				case OR:
+					return x | y;
+				case XOR:
+					return x ^ y;
+				default:
+					return x & ~y;
+			}
+		}
+	}
+
+	private Bitwise() {}
+
+	/**
+	 * @param op
+	 * @param a
+	 * @param b
+	 * @param out a empty store or null for a in heap result
+	 * @return a op b
+	 */
+	static HugeInt apply(Op op, AbstractLimbDelegate a, AbstractLimbDelegate b, BufferLimbs out) {
+		LongUnaryOperator x = twosComplement(a);
+		LongUnaryOperator y = twosComplement(b);
+		long xSign = a.isNegative() ? -1L : 0L;
+		long ySign = b.isNegative() ? -1L : 0L;
+		boolean negative = op.apply(xSign, ySign) != 0L;
+		//one more limb than the operands, so the top limb is only sign bits
+		long n = Math.max(a.limbLength(), b.limbLength()) + 1;
+		if (!negative) {
+			//the bits past the end of a positive operand are clear
+			if (xSign == 0L && op != Op.OR && op != Op.XOR) {
+				n = Math.min(n, a.limbLength());
+			}
+			if (ySign == 0L && op == Op.AND) {
+				n = Math.min(n, b.limbLength());
+			}
+		}
+		LongUnaryOperator r = (i) -> op.apply(x.applyAsLong(i), y.applyAsLong(i));
+		if (negative) {
+			r = negate(r);
+		}
+		return write(n, r, negative, out);
+	}
+
+	/**
+	 * @param a
+	 * @param bits must not be negative
+	 * @param out a empty store or null for a in heap result
+	 * @return a * 2^bits
+	 */
+	static HugeInt shiftLeft(AbstractLimbDelegate a, long bits, BufferLimbs out) {
+		long len = a.limbLength();
+		if (len == 0) {
+			return HugeInt.ZERO;
+		}
+		long w = bits >>> 6;
+		int s = (int) (bits & 63);
+		LongUnaryOperator r = (i) -> {
+			if (i < w) {
+				return 0L;
+			} else if (i == w) {
+				return a.limb(0) << s;
+			}
+			return a.getBits(((i - w) << 6) - s);
+		};
+		return write(len + w + 1, r, a.isNegative(), out);
+	}
+
+	/**
+	 * @param a
+	 * @param bits must not be negative
+	 * @param out a empty store or null for a in heap result
+	 * @return a / 2^bits, rounded toward negative infinity like BigInteger
+	 */
+	static HugeInt shiftRight(AbstractLimbDelegate a, long bits, BufferLimbs out) {
+		long len = a.limbLength();
+		long w = bits >>> 6;
+		int s = (int) (bits & 63);
+		boolean roundUp = false;
+		if (a.isNegative()) {
+			long z = a.lowestLimb();
+			roundUp = z < w || (z == w && (a.limb(w) & ((1L << s) - 1L)) != 0L);
+		}
+		if (w >= len) {
+			return roundUp ? new HugeInt(-1L) : HugeInt.ZERO;
+		}
+		long n = len - w;
+		LongUnaryOperator r = (i) -> a.getBits(bits + (i << 6));
+		if (!roundUp) {
+			return write(n, r, a.isNegative(), out);
+		}
+		//the magnitude plus one, which only carries through all ones limbs
+		if (out == null) {
+			long [] mag = new long[Math.toIntExact(n + 1)];
+			fill(n, r, mag, null);
+			for (int i = 0; ++mag[i] == 0L; i++) {}
+			return HugeInt.valueOf(Limbs.normalize(mag, mag.length), true);
+		}
+		out.set(n - 1, 0L);
+		fill(n, r, null, out);
+		for (long i = 0; ; i++) {
+			long v = out.get(i) + 1L;
+			out.set(i, v);
+			if (v != 0L) {
+				break;
+			}
+		}
+		out.trim();
+		return HugeInt.valueOf(out, true);
+	}
+
+	/**
+	 * @param a
+	 * @return the limbs of the infinite two's complement of a
+	 */
+	private static LongUnaryOperator twosComplement(AbstractLimbDelegate a) {
+		if (!a.isNegative()) {
+			return a::limb;
+		}
+		long z = a.lowestLimb();
+		return (i) -> {
+			if (i < z) {
+				return 0L;
+			} else if (i == z) {
+				return -a.limb(i);
+			}
+			return ~a.limb(i);
+		};
+	}
+
+	/**
+	 * @param r the limbs of a negative two's complement value
+	 * @return the limbs of it's magnitude
+	 */
+	private static LongUnaryOperator negate(LongUnaryOperator r) {
+		long i = 0;
+		while (r.applyAsLong(i) == 0L) {
+			i++;
+		}
+		long z = i;
+		return (j) -> {
+			if (j < z) {
+				return 0L;
+			} else if (j == z) {
+				return -r.applyAsLong(j);
+			}
+			return ~r.applyAsLong(j);
+		};
+	}
+
+	private static HugeInt write(long n, LongUnaryOperator r, boolean negative, BufferLimbs out) {
+		if (n <= 0) {
+			return HugeInt.ZERO;
+		} else if (out == null) {
+			long [] mag = new long[Math.toIntExact(n)];
+			fill(n, r, mag, null);
+			return HugeInt.valueOf(Limbs.normalize(mag, mag.length), negative);
+		}
+		//grow the store first, so that parallel writes don't allocate segments
+		out.set(n - 1, 0L);
+		fill(n, r, null, out);
+		out.trim();
+		return HugeInt.valueOf(out, negative);
+	}
+
+	/**
+	 * writes the limbs from 0 to n into mag or out, by blocks
+	 * of whole index blocks of the store on the fork join pool when n is large
+	 */
+	private static void fill(long n, LongUnaryOperator r, long [] mag, BufferLimbs out) {
+		int threads = Runtime.getRuntime().availableProcessors();
+		if (n < PARALLEL_LIMBS || threads == 1) {
+			fill(0, n, r, mag, out);
+			return;
+		}
+		long target = (n + threads * 4L - 1) / (threads * 4L);
+		long blockSize = Math.max(1L, (target + ParallelAdd.MIN_BLOCK - 1) / ParallelAdd.MIN_BLOCK)
+				* ParallelAdd.MIN_BLOCK;
+		int blocks = (int) ((n + blockSize - 1) / blockSize);
+		IntStream.range(0, blocks).parallel().forEach((k) -> {
+			long from = k * blockSize;
+			fill(from, Math.min(n, from + blockSize), r, mag, out);
+		});
+	}
+
+	private static void fill(long from, long to, LongUnaryOperator r, long [] mag, BufferLimbs out) {
+		if (mag != null) {
+			for (long i = from; i < to; i++) {
+				mag[(int) i] = r.applyAsLong(i);
+			}
+		} else {
+			for (long i = from; i < to; i++) {
+				out.set(i, r.applyAsLong(i));
+			}
+		}
+	}
+}
@@ -0,0 +1,304 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A growable little endian limb store (see {@link Limbs}) that keeps
+ * it's limbs in fixed size ByteBuffer segments, so that values
+ * can grow past the size of a single buffer or java array.
+ * Values are written once and then only read.
+ * Each block of {@link #INDEX_LIMBS} limbs keeps a count of it's non zero limbs,
+ * along with a running bit count and a pointer below which every block is zero,
+ * which are updated as limbs are written, so the bit count is O(1) and the lowest 
+ * set bit is amortized O(1) blocks plus a scan of one block, instead of reading
+ * every limb of a multi GB value.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+abstract class BufferLimbs implements AutoCloseable {
+	public static final String THE_STORE_IS_CLOSED = "The store is closed!";
+	static final int SEGMENT_SHIFT = 20;
+	static final int SEGMENT_LIMBS = 1 << SEGMENT_SHIFT;
+	static final int SEGMENT_MASK = SEGMENT_LIMBS - 1;
+	/**
+	 * 8 MB per segment
+	 */
+	static final int SEGMENT_BYTES = SEGMENT_LIMBS << 3;
+	static final int INDEX_SHIFT = 12;
+	/**
+	 * the number of limbs in each block of the index
+	 */
+	static final int INDEX_LIMBS = 1 << INDEX_SHIFT;
+
+	private ByteBuffer [] segments = new ByteBuffer[4];
+	private int segmentCount = 0;
+	private long length = 0;
+	/**
+	 * the number of non zero limbs in each block
+	 */
+	private int [] nonZero = new int[4];
+	/**
+	 * the number of set bits, a LongAdder as different blocks may be written in parallel
+	 */
+	private final LongAdder bitCount = new LongAdder();
+	/**
+	 * every block below this is zero, it is lowered when a lower block
+	 * becomes non zero, and moved up over zero blocks by {@link #lowestLimb()}
+	 */
+	private final AtomicInteger lowestBlock = new AtomicInteger();
+	private boolean closed = false;
+
+	/**
+	 * @param segment the index of the segment
+	 * @param bytes the minimum number of bytes needed, only the last segment 
+	 *   may be smaller than {@link #SEGMENT_BYTES}
+	 * @return a new zero filled buffer of at least bytes, and at most {@link #SEGMENT_BYTES}
+	 */
+	protected abstract ByteBuffer allocate(int segment, int bytes);
+
+	/**
+	 * @param negative
+	 * @return a delegate for the value in this store
+	 */
+	abstract AbstractLimbDelegate toDelegate(boolean negative);
+
+	/**
+	 * releases anything the segments don't, called once by {@link #close()}
+	 */
+	protected void release() {}
+
+	/**
+	 * Drops the segments, so that they are released as soon as they are 
+	 * garbage collected instead of when the store is, a closed store 
+	 * can't be read or written.  Stores that are still in use by a HugeInt
+	 * must not be closed.
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		segments = new ByteBuffer[0];
+		segmentCount = 0;
+		length = 0;
+		release();
+	}
+
+	/**
+	 * @return the number of limbs
+	 */
+	long length() {
+		return length;
+	}
+
+	long get(long index) {
+		int seg = (int) (index >>> SEGMENT_SHIFT);
+		if (index >= length) {
+			if (closed) {
+				throw new IllegalStateException(THE_STORE_IS_CLOSED);
+			}
+			return 0L;
+		}
+		return segments[seg].getLong(((int) index & SEGMENT_MASK) << 3);
+	}
+
+	/**
+	 * Writes to different blocks of the index may run in parallel,
+	 * once the store is long enough that they don't grow it.
+	 */
+	void set(long index, long value) {
+		if (closed) {
+			throw new IllegalStateException(THE_STORE_IS_CLOSED);
+		}
+		long old = get(index);
+		int seg = (int) (index >>> SEGMENT_SHIFT);
+		int offset = ((int) index & SEGMENT_MASK) << 3;
+		if (segmentCount > 0 && seg >= segmentCount - 1) {
+			ByteBuffer last = segments[segmentCount - 1];
+			if (last.capacity() < SEGMENT_BYTES && (seg > segmentCount - 1 || offset >= last.capacity())) {
+				int need = seg > segmentCount - 1 ? SEGMENT_BYTES : offset + 8;
+				segments[segmentCount - 1] = grow(segmentCount - 1, last, need);
+			}
+		}
+		while (seg >= segmentCount) {
+			if (segmentCount == segments.length) {
+				ByteBuffer [] t = new ByteBuffer[segments.length << 1];
+				System.arraycopy(segments, 0, t, 0, segmentCount);
+				segments = t;
+			}
+			int need = seg > segmentCount ? SEGMENT_BYTES : offset + 8;
+			ByteBuffer b = allocate(segmentCount, need);
+			b.order(ByteOrder.LITTLE_ENDIAN);
+			segments[segmentCount++] = b;
+		}
+		if (index >= length) {
+			for (long i = length; i < index; i++) {
+				segments[(int) (i >>> SEGMENT_SHIFT)].putLong(((int) i & SEGMENT_MASK) << 3, 0L);
+			}
+			length = index + 1;
+			int blocks = (int) (index >>> INDEX_SHIFT) + 1;
+			if (blocks > nonZero.length) {
+				int size = Math.max(blocks, nonZero.length << 1);
+				nonZero = Arrays.copyOf(nonZero, size);
+			}
+		}
+		segments[seg].putLong(offset, value);
+		if (old != value) {
+			int block = (int) (index >>> INDEX_SHIFT);
+			int nz = nonZero[block];
+			nonZero[block] = nz + (value != 0L ? 1 : 0) - (old != 0L ? 1 : 0);
+			if (nz == 0 && block < lowestBlock.get()) {
+				lowestBlock.accumulateAndGet(block, Math::min);
+			}
+			int b = Long.bitCount(value) - Long.bitCount(old);
+			if (b != 0) {
+				bitCount.add(b);
+			}
+		}
+	}
+	
+	private ByteBuffer grow(int segment, ByteBuffer old, int need) {
+		int bytes = Math.min(SEGMENT_BYTES, Math.max(need, old.capacity() << 1));
+		ByteBuffer b = allocate(segment, bytes);
+		b.order(ByteOrder.LITTLE_ENDIAN);
+		ByteBuffer src = old.duplicate();
+		src.clear();
+		b.put(0, src, 0, src.capacity());
+		return b;
+	}
+
+	/**
+	 * removes leading zero limbs
+	 */
+	void trim() {
+		while (length > 0 && get(length - 1) == 0L) {
+			length--;
+		}
+	}
+
+	long bitLength() {
+		if (length == 0) {
+			return 0;
+		}
+		return (length << 6) - Long.numberOfLeadingZeros(get(length - 1));
+	}
+
+	/**
+	 * Amortized O(1) blocks plus O({@link #INDEX_LIMBS}) limbs, as the 
+	 * lowest block pointer only moves up over the blocks that have become 
+	 * zero since the last call, and it must not be called during parallel writes.
+	 * @return the index of the lowest non zero limb, or -1 when the value is zero
+	 */
+	long lowestLimb() {
+		int blocks = (int) ((length + INDEX_LIMBS - 1) >>> INDEX_SHIFT);
+		int b = lowestBlock.get();
+		while (b < blocks && nonZero[b] == 0) {
+			b++;
+		}
+		lowestBlock.set(b);
+		if (b < blocks) {
+			long end = Math.min(length, (long) (b + 1) << INDEX_SHIFT);
+			for (long i = (long) b << INDEX_SHIFT; i < end; i++) {
+				if (get(i) != 0L) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * O(1) from the running total, which must not be read during parallel writes
+	 * @return the number of set bits
+	 */
+	long bitCount() {
+		return bitCount.sum();
+	}
+
+	/**
+	 * @param chunk a positive chunk
+	 * @param chunkIndex the position of the chunk from little to big
+	 */
+	void addChunk(BigInteger chunk, long chunkIndex) {
+		long [] c = Limbs.fromBig(chunk);
+		long bitOffset = chunkIndex * Limbs.CHUNK_BITS;
+		long w = bitOffset >>> 6;
+		int s = (int) (bitOffset & 63);
+		long carry = 0;
+		int i = 0;
+		for (; i <= c.length; i++) {
+			long v = i < c.length ? c[i] << s : 0L;
+			if (s != 0 && i > 0) {
+				v |= c[i - 1] >>> (64 - s);
+			}
+			long x = get(w + i);
+			long sum = x + v;
+			long nc = Long.compareUnsigned(sum, x) < 0 ? 1L : 0L;
+			long sum2 = sum + carry;
+			if (sum2 == 0L && carry == 1L) {
+				nc = 1L;
+			}
+			set(w + i, sum2);
+			carry = nc;
+		}
+		for (long j = w + i; carry != 0L; j++) {
+			long x = get(j) + 1L;
+			set(j, x);
+			carry = x == 0L ? 1L : 0L;
+		}
+	}
+
+	/**
+	 * writes the magnitude of a + b into this empty store, 
+	 * streamed through a {@link AddStream}
+	 */
+	void add(AbstractLimbDelegate a, AbstractLimbDelegate b) {
+		AddStream sum = new AddStream(new LimbCursor(a, true), new LimbCursor(b, true));
+		for (long i = 0; sum.hasNext(); i++) {
+			set(i, sum.next());
+		}
+		trim();
+	}
+
+	/**
+	 * writes the magnitude of big - little into this empty store
+	 * @param big must have a magnitude greater than or equal to little
+	 */
+	void subtract(AbstractLimbDelegate big, AbstractLimbDelegate little) {
+		long n = big.limbLength();
+		long borrow = 0;
+		for (long i = 0; i < n; i++) {
+			long x = big.limb(i);
+			long y = little.limb(i);
+			set(i, x - y - borrow);
+			borrow = (Long.compareUnsigned(x, y) < 0 || (x == y && borrow == 1L)) ? 1L : 0L;
+		}
+		trim();
+	}
+}
@@ -0,0 +1,89 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * A I_LimbCursor from little to big over a stream of positive chunks, 
+ * for I_HugeInt implementations outside of this package.
+ * Chunks must fit into {@link Limbs#CHUNK_BITS}, and the 
+ * last limbs may be zero.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+class ChunkLimbCursor implements I_LimbCursor {
+	private final Iterator<BigInteger> chunks;
+	private long [] chunk = Limbs.EMPTY;
+	/**
+	 * the next bit to read from the chunk
+	 */
+	private int pos = Limbs.CHUNK_BITS;
+	private boolean done = false;
+	
+	ChunkLimbCursor(Stream<BigInteger> littleToBig) {
+		this.chunks = littleToBig.iterator();
+		advance();
+	}
+	
+	private void advance() {
+		if (chunks.hasNext()) {
+			BigInteger n = chunks.next();
+			if (n != null) {
+				chunk = Limbs.fromBig(n);
+				pos = 0;
+				return;
+			}
+		}
+		done = true;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return !done;
+	}
+
+	@Override
+	public long next() {
+		if (done) {
+			throw new NoSuchElementException();
+		}
+		long r = 0L;
+		int bits = 0;
+		while (bits < 64 && !done) {
+			int take = Math.min(64 - bits, Limbs.CHUNK_BITS - pos);
+			long v = Limbs.getBits(chunk, pos);
+			if (take < 64) {
+				v &= (1L << take) - 1L;
+			}
+			r |= v << bits;
+			bits += take;
+			pos += take;
+			if (pos == Limbs.CHUNK_BITS) {
+				advance();
+			}
+		}
+		return r;
+	}
+}
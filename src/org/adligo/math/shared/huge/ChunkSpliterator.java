@@ -0,0 +1,93 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A sized Spliterator over a range of the chunks of a AbstractLimbDelegate, 
+ * (see {@link AbstractLimbDelegate#chunk(long)}) in either direction,
+ * which splits in half so that chunk streams can run in parallel.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+class ChunkSpliterator implements Spliterator<BigInteger> {
+	/**
+	 * ranges smaller than this are not split
+	 */
+	static final long MIN_SPLIT = 16;
+	private final AbstractLimbDelegate delegate;
+	private final boolean littleToBig;
+	private final long count;
+	private long from;
+	private final long to;
+	
+	/**
+	 * @param delegate
+	 * @param littleToBig
+	 * @param from inclusive position in the stream
+	 * @param to exclusive position in the stream
+	 */
+	ChunkSpliterator(AbstractLimbDelegate delegate, boolean littleToBig, long from, long to) {
+		this.delegate = delegate;
+		this.littleToBig = littleToBig;
+		this.count = delegate.chunkCount();
+		this.from = from;
+		this.to = to;
+	}
+	
+	private BigInteger chunkAt(long position) {
+		return delegate.chunk(littleToBig ? position : count - 1 - position);
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super BigInteger> action) {
+		if (from < to) {
+			action.accept(chunkAt(from++));
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public Spliterator<BigInteger> trySplit() {
+		long size = to - from;
+		if (size < MIN_SPLIT) {
+			return null;
+		}
+		long mid = from + (size >>> 1);
+		ChunkSpliterator r = new ChunkSpliterator(delegate, littleToBig, from, mid);
+		from = mid;
+		return r;
+	}
+
+	@Override
+	public long estimateSize() {
+		return to - from;
+	}
+
+	@Override
+	public int characteristics() {
+		return LimbSpliterator.CHARACTERISTICS;
+	}
+}
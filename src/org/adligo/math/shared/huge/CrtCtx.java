@@ -0,0 +1,253 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import org.adligo.i_math.shared.I_EgcdResult;
+import org.adligo.i_math.shared.I_MathCtx;
+
+/**
+ * Chinese remaindering for a fixed set of pairwise coprime moduli, with a 
+ * balanced product tree of the moduli computed once when this is created.
+ * The cofactors (M / m<sub>i</sub>) mod m<sub>i</sub> are pushed down the tree 
+ * as remainders, and inverted with one egcd per modulus, so that 
+ * {@link #solve(BigInteger[])} is a single pass up the tree;
+ * x = &Sigma; c<sub>i</sub> M / m<sub>i</sub> where each node combines it's 
+ * children as left * right.product + right * left.product. <br/>
+ * Large subtrees run as fork join tasks. Instances are immutable and thread safe,
+ * see MathCtx#getCrtCtx for a cache of them.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CrtCtx {
+	public static final String AT_LEAST_ONE_MODULUS_IS_REQUIRED = "At least one modulus is required!";
+	public static final String THE_MODULI_MUST_BE_PAIRWISE_COPRIME = "The moduli must be pairwise coprime!";
+	public static final String A_RESIDUE_IS_REQUIRED_FOR_EACH_MODULUS = "A residue is required for each modulus!";
+	/**
+	 * subtrees with at least this many moduli are forked
+	 */
+	static final int FORK_MODULI = 256;
+	
+	private final BigInteger[] moduli;
+	/**
+	 * ((M / m<sub>i</sub>) mod m<sub>i</sub>)<sup>-1</sup> mod m<sub>i</sub>
+	 */
+	private final BigInteger[] inverses;
+	private final Node root;
+	
+	/**
+	 * @param moduli positive pairwise coprime moduli
+	 * @param ctx supplies the egcd
+	 */
+	public CrtCtx(BigInteger[] moduli, I_MathCtx ctx) {
+		if (moduli.length == 0) {
+			throw new IllegalArgumentException(AT_LEAST_ONE_MODULUS_IS_REQUIRED);
+		}
+		for (int i = 0; i < moduli.length; i++) {
+			if (moduli[i].signum() <= 0) {
+				throw new IllegalArgumentException(HugeInt.THE_MODULUS_MUST_BE_POSITIVE);
+			}
+		}
+		this.moduli = moduli.clone();
+		inverses = new BigInteger[moduli.length];
+		BuildTask build = new BuildTask(this.moduli, 0, moduli.length);
+		root = moduli.length >= FORK_MODULI ? ForkJoinPool.commonPool().invoke(build) : build.compute();
+		InverseTask inverse = new InverseTask(ctx, root, HugeInt.ONE);
+		if (moduli.length >= FORK_MODULI) {
+			ForkJoinPool.commonPool().invoke(inverse);
+		} else {
+			inverse.compute();
+		}
+	}
+	
+	/**
+	 * @return the product of the moduli
+	 */
+	public HugeInt getModulus() {
+		return root.product;
+	}
+	
+	public int size() {
+		return moduli.length;
+	}
+	
+	/**
+	 * @param residues one for each modulus, in the same order
+	 * @return the x from zero to {@link #getModulus()} - 1 with 
+	 * x mod moduli[i] = residues[i] mod moduli[i]
+	 */
+	public HugeInt solve(BigInteger[] residues) {
+		if (residues.length != moduli.length) {
+			throw new IllegalArgumentException(A_RESIDUE_IS_REQUIRED_FOR_EACH_MODULUS);
+		}
+		SolveTask solve = new SolveTask(this, residues, root);
+		HugeInt x = moduli.length >= FORK_MODULI ? ForkJoinPool.commonPool().invoke(solve) : solve.compute();
+		return x.remainder(root.product);
+	}
+	
+	private static HugeInt add(HugeInt a, HugeInt b) {
+		return (HugeInt) a.add(b);
+	}
+	
+	/**
+	 * A node of the product tree, leaves have a single modulus.
+	 */
+	private static class Node {
+		final HugeInt product;
+		final int from;
+		final int to;
+		final Node left;
+		final Node right;
+		
+		Node(HugeInt product, int from, int to, Node left, Node right) {
+			this.product = product;
+			this.from = from;
+			this.to = to;
+			this.left = left;
+			this.right = right;
+		}
+		
+		boolean isLeaf() {
+			return left == null;
+		}
+	}
+	
+	private static class BuildTask extends RecursiveTask<Node> {
+		private static final long serialVersionUID = 1L;
+		private final BigInteger[] moduli;
+		private final int from;
+		private final int to;
+		
+		BuildTask(BigInteger[] moduli, int from, int to) {
+			this.moduli = moduli;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected Node compute() {
+			if (to - from == 1) {
+				return new Node(new HugeInt(moduli[from]), from, to, null, null);
+			}
+			int mid = (from + to) >>> 1;
+			BuildTask l = new BuildTask(moduli, from, mid);
+			BuildTask r = new BuildTask(moduli, mid, to);
+			Node left;
+			Node right;
+			if (to - from >= FORK_MODULI) {
+				l.fork();
+				right = r.compute();
+				left = l.join();
+			} else {
+				left = l.compute();
+				right = r.compute();
+			}
+			return new Node(left.product.multiply(right.product), from, to, left, right);
+		}
+	}
+	
+	/**
+	 * pushes the product of the moduli outside of each node down the tree,
+	 * reduced mod the node's product
+	 */
+	private class InverseTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final transient I_MathCtx ctx;
+		private final transient Node node;
+		private final transient HugeInt cofactor;
+		
+		InverseTask(I_MathCtx ctx, Node node, HugeInt cofactor) {
+			this.ctx = ctx;
+			this.node = node;
+			this.cofactor = cofactor;
+		}
+		
+		@Override
+		protected void compute() {
+			if (node.isLeaf()) {
+				BigInteger m = moduli[node.from];
+				BigInteger c = cofactor.remainder(node.product).toBig();
+				if (BigInteger.ONE.equals(m)) {
+					inverses[node.from] = BigInteger.ZERO;
+					return;
+				} else if (c.signum() == 0) {
+					throw new IllegalArgumentException(THE_MODULI_MUST_BE_PAIRWISE_COPRIME);
+				}
+				//the modulus is the larger input, so bcb is the cofactor of c
+				I_EgcdResult r = ctx.egcd(m, c);
+				if (!BigInteger.ONE.equals(r.getResult())) {
+					throw new IllegalArgumentException(THE_MODULI_MUST_BE_PAIRWISE_COPRIME);
+				}
+				inverses[node.from] = r.getBcb().mod(m);
+				return;
+			}
+			InverseTask l = new InverseTask(ctx, node.left, 
+					cofactor.multiply(node.right.product).remainder(node.left.product));
+			InverseTask r = new InverseTask(ctx, node.right, 
+					cofactor.multiply(node.left.product).remainder(node.right.product));
+			if (node.to - node.from >= FORK_MODULI) {
+				invokeAll(l, r);
+			} else {
+				l.compute();
+				r.compute();
+			}
+		}
+	}
+	
+	private static class SolveTask extends RecursiveTask<HugeInt> {
+		private static final long serialVersionUID = 1L;
+		private final transient CrtCtx crt;
+		private final BigInteger[] residues;
+		private final transient Node node;
+		
+		SolveTask(CrtCtx crt, BigInteger[] residues, Node node) {
+			this.crt = crt;
+			this.residues = residues;
+			this.node = node;
+		}
+		
+		@Override
+		protected HugeInt compute() {
+			if (node.isLeaf()) {
+				int i = node.from;
+				BigInteger m = crt.moduli[i];
+				return new HugeInt(residues[i].mod(m).multiply(crt.inverses[i]).mod(m));
+			}
+			SolveTask l = new SolveTask(crt, residues, node.left);
+			SolveTask r = new SolveTask(crt, residues, node.right);
+			HugeInt left;
+			HugeInt right;
+			if (node.to - node.from >= FORK_MODULI) {
+				l.fork();
+				right = r.compute();
+				left = l.join();
+			} else {
+				left = l.compute();
+				right = r.compute();
+			}
+			return add(left.multiply(node.right.product), right.multiply(node.left.product));
+		}
+	}
+}
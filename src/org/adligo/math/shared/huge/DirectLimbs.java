@@ -0,0 +1,45 @@
+package org.adligo.math.shared.huge;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Keeps the limbs in direct (off heap) ByteBuffer segments, 
+ * which are released when the store is garbage collected.
+ * The last segment starts small and doubles until it's full size, 
+ * so small values don't reserve a whole segment. 
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+class DirectLimbs extends BufferLimbs {
+	static final int MIN_SEGMENT_BYTES = 1 << 10;
+
+	@Override
+	protected ByteBuffer allocate(int segment, int bytes) {
+		return ByteBuffer.allocateDirect(Math.max(MIN_SEGMENT_BYTES, bytes));
+	}
+
+	@Override
+	AbstractLimbDelegate toDelegate(boolean negative) {
+		return new RamBufferedDelegate(this, negative);
+	}
+}
@@ -0,0 +1,481 @@
+package org.adligo.math.shared.huge;
+
+import java.util.Arrays;
+
+/**
+ * Static division of limb magnitudes (see {@link Limbs}),
+ * with Knuth's algorithm D (The Art of Computer Programming Vol 2, 4.3.1)
+ * and a 128 by 64 bit quotient estimate (Hacker's Delight divlu), 
+ * or Burnikel and Ziegler's recursive division for large divisors
+ * (Fast Recursive Division, MPI-I-98-1-022), which divides with 
+ * {@link Multiply} so it benefits from Karatsuba, Toom-3 and transforms.
+ *
+ * 
+ * @author scott<br/>
+ *         <br/>
+ * 
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class Divide {
+	private static final long MASK_32 = 0xFFFFFFFFL;
+	private static final long B_32 = 1L << 32;
+	/**
+	 * the number of limbs in the divisor where Burnikel-Ziegler starts
+	 */
+	static final int BZ_LIMBS = 40;
+	/**
+	 * the number of limbs the dividend must be longer than the divisor
+	 * for Burnikel-Ziegler
+	 */
+	static final int BZ_OFFSET = 20;
+	/**
+	 * the number of limbs in a block of a off heap or mapped dividend,
+	 * that is copied onto the heap at a time by {@link #divideAndRemainder(AbstractLimbDelegate, long[], BufferLimbs)}
+	 */
+	static final int STREAM_LIMBS = 1 << 14;
+	
+	private Divide() {}
+	
+	/**
+	 * @param a a normalized magnitude
+	 * @param b a normalized magnitude, which is not zero
+	 * @return the normalized quotient at 0, and remainder at 1
+	 */
+	static long[][] divideAndRemainder(long [] a, long [] b) {
+		if (Limbs.compare(a, b) < 0) {
+			return new long[][] {Limbs.EMPTY, a};
+		} else if (isBurnikelZiegler(a, b)) {
+			return burnikelZiegler(a, b);
+		}
+		return basic(a, b);
+	}
+	
+	/**
+	 * long division by blocks of k = max({@link #STREAM_LIMBS}, b.length) limbs of a 
+	 * from the top, where each step divides the remainder so far times B^k plus 
+	 * the next block by b, so only a block, b and the remainder are on the heap at a time
+	 * @param a a magnitude, which is usually off heap or mapped
+	 * @param b a normalized magnitude, which is not zero
+	 * @param q a empty store for the magnitude of the quotient, 
+	 *   or null when only the remainder is needed
+	 * @return the normalized remainder
+	 */
+	static long[] divideAndRemainder(AbstractLimbDelegate a, long [] b, BufferLimbs q) {
+		int k = Math.max(STREAM_LIMBS, b.length);
+		long la = a.limbLength();
+		long [] r = Limbs.EMPTY;
+		for (long from = ((la - 1) / k) * k; from >= 0; from -= k) {
+			int n = (int) Math.min(k, la - from);
+			long [] x = new long[n + r.length];
+			for (int i = 0; i < n; i++) {
+				x[i] = a.limb(from + i);
+			}
+			System.arraycopy(r, 0, x, n, r.length);
+			x = Limbs.normalize(x, x.length);
+			if (q == null) {
+				r = remainder(x, b);
+				continue;
+			}
+			long [][] qr = divideAndRemainder(x, b);
+			//r < b so each quotient block is less than B^k
+			long [] qb = qr[0];
+			for (int i = 0; i < qb.length; i++) {
+				q.set(from + i, qb[i]);
+			}
+			r = qr[1];
+		}
+		if (q != null) {
+			q.trim();
+		}
+		return r;
+	}
+	
+	private static boolean isBurnikelZiegler(long [] a, long [] b) {
+		return b.length >= BZ_LIMBS && a.length - b.length >= BZ_OFFSET;
+	}
+	
+	/**
+	 * knuth or the single limb divisor
+	 */
+	private static long[][] basic(long [] a, long [] b) {
+		if (Limbs.compare(a, b) < 0) {
+			return new long[][] {Limbs.EMPTY, a};
+		} else if (b.length == 1) {
+			long [] q = new long[a.length];
+			long r = divideByLimb(a, b[0], q);
+			return new long[][] {Limbs.normalize(q, q.length), Limbs.fromUnsigned(r)};
+		}
+		return knuth(a, b, true);
+	}
+	
+	/**
+	 * splits a into t blocks of n limbs, where n is a multiple of a power of 2 
+	 * at least as long as b, and divides two blocks at a time from the top
+	 */
+	private static long[][] burnikelZiegler(long [] a, long [] b) {
+		int r = b.length;
+		int m = 1 << (32 - Integer.numberOfLeadingZeros(r / BZ_LIMBS));
+		int j = (r + m - 1) / m;
+		int n = j * m;
+		long n64 = (long) n << 6;
+		long sigma = Math.max(0L, n64 - Limbs.bitLength(b));
+		long [] bs = Limbs.shiftLeft(b, sigma);
+		long [] as = Limbs.shiftLeft(a, sigma);
+		int t = (int) Math.max(2L, (Limbs.bitLength(as) + n64) / n64);
+		
+		long [] q = new long[(t - 1) * n];
+		long [] z = Multiply.slice(as, (t - 2) * n, t * n);
+		long [] ri = Limbs.EMPTY;
+		for (int i = t - 2; i >= 0; i--) {
+			long [][] qr = divide2n1n(z, bs, n);
+			Multiply.addShifted(q, qr[0], i * n);
+			ri = qr[1];
+			if (i > 0) {
+				z = Limbs.add(shiftLimbs(ri, n), Multiply.slice(as, (i - 1) * n, i * n));
+			}
+		}
+		return new long[][] {Limbs.normalize(q, q.length), Limbs.shiftRight(ri, sigma)};
+	}
+	
+	/**
+	 * @param a less than b * B^n
+	 * @param b exactly n limbs, with it's top bit set
+	 */
+	private static long[][] divide2n1n(long [] a, long [] b, int n) {
+		if ((n & 1) != 0 || n < BZ_LIMBS) {
+			return basic(a, b);
+		}
+		int h = n >>> 1;
+		long [][] qr1 = divide3n2n(Multiply.slice(a, h, a.length), b, h);
+		long [] a4 = Multiply.slice(a, 0, h);
+		long [][] qr2 = divide3n2n(Limbs.add(shiftLimbs(qr1[1], h), a4), b, h);
+		return new long[][] {Limbs.add(shiftLimbs(qr1[0], h), qr2[0]), qr2[1]};
+	}
+	
+	/**
+	 * @param a three blocks of h limbs, less than b * B^h 
+	 * @param b two blocks of h limbs, with it's top bit set
+	 */
+	private static long[][] divide3n2n(long [] a, long [] b, int h) {
+		long [] a1 = Multiply.slice(a, h << 1, a.length);
+		long [] a12 = Multiply.slice(a, h, a.length);
+		long [] a3 = Multiply.slice(a, 0, h);
+		long [] b1 = Multiply.slice(b, h, b.length);
+		long [] b2 = Multiply.slice(b, 0, h);
+		long [] q;
+		long [] r1;
+		if (Limbs.compare(a1, b1) < 0) {
+			long [][] qr = divide2n1n(a12, b1, h);
+			q = qr[0];
+			r1 = qr[1];
+		} else {
+			// a1 == b1, so q = B^h - 1 and r1 = a12 - q * b1
+			q = new long[h];
+			Arrays.fill(q, -1L);
+			r1 = Limbs.add(Limbs.subtract(a12, shiftLimbs(b1, h)), b1);
+		}
+		long [] d = Multiply.multiply(q, b2);
+		long [] r = Limbs.add(shiftLimbs(r1, h), a3);
+		while (Limbs.compare(r, d) < 0) {
+			r = Limbs.add(r, b);
+			q = Limbs.subtract(q, ONE);
+		}
+		return new long[][] {q, Limbs.subtract(r, d)};
+	}
+	
+	private static final long [] ONE = new long[] {1L};
+	
+	/**
+	 * @return a * B^limbs
+	 */
+	private static long[] shiftLimbs(long [] a, int limbs) {
+		if (a.length == 0) {
+			return a;
+		}
+		long [] r = new long[a.length + limbs];
+		System.arraycopy(a, 0, r, limbs, a.length);
+		return r;
+	}
+	
+	/**
+	 * @param a a normalized magnitude
+	 * @param b a normalized magnitude, which is not zero
+	 * @return the normalized magnitude of a mod b
+	 */
+	static long[] remainder(long [] a, long [] b) {
+		if (Limbs.compare(a, b) < 0) {
+			return a;
+		} else if (b.length == 1) {
+			return Limbs.fromUnsigned(remainderByLimb(a, b[0]));
+		} else if (isBurnikelZiegler(a, b)) {
+			return burnikelZiegler(a, b)[1];
+		}
+		return knuth(a, b, false)[1];
+	}
+	
+	/**
+	 * @param a a magnitude
+	 * @param d a unsigned divisor, which is not zero
+	 * @param q a array at least as long as a for the quotient
+	 * @return the unsigned remainder
+	 */
+	static long divideByLimb(long [] a, long d, long [] q) {
+		int s = Long.numberOfLeadingZeros(d);
+		long dn = d << s;
+		long r = 0L;
+		for (int i = a.length - 1; i >= 0; i--) {
+			long hi = s == 0 ? r : (r << s) | (a[i] >>> (64 - s));
+			long lo = a[i] << s;
+			long qi = divlu(hi, lo, dn);
+			q[i] = qi;
+			// the remainder is below d, so only it's low 64 bits matter
+			r = (lo - qi * dn) >>> s;
+		}
+		return r;
+	}
+	
+	/**
+	 * reads the limbs of a from it's delegate, so off heap and mapped 
+	 * dividends aren't copied
+	 * @param a a magnitude
+	 * @param d a unsigned divisor, which is not zero
+	 * @param q a array at least as long as a for the quotient
+	 * @return the unsigned remainder
+	 */
+	static long divideByLimb(AbstractLimbDelegate a, long d, long [] q) {
+		int s = Long.numberOfLeadingZeros(d);
+		long dn = d << s;
+		long r = 0L;
+		for (int i = (int) a.limbLength() - 1; i >= 0; i--) {
+			long x = a.limb(i);
+			long hi = s == 0 ? r : (r << s) | (x >>> (64 - s));
+			long lo = x << s;
+			long qi = divlu(hi, lo, dn);
+			q[i] = qi;
+			r = (lo - qi * dn) >>> s;
+		}
+		return r;
+	}
+	
+	/**
+	 * doesn't allocate
+	 * @param a a magnitude
+	 * @param d a unsigned divisor, which is not zero
+	 * @return the unsigned remainder of a / d
+	 */
+	static long remainderByLimb(AbstractLimbDelegate a, long d) {
+		int s = Long.numberOfLeadingZeros(d);
+		long dn = d << s;
+		long r = 0L;
+		for (long i = a.limbLength() - 1; i >= 0; i--) {
+			long x = a.limb(i);
+			long hi = s == 0 ? r : (r << s) | (x >>> (64 - s));
+			long lo = x << s;
+			long qi = divlu(hi, lo, dn);
+			r = (lo - qi * dn) >>> s;
+		}
+		return r;
+	}
+	
+	/**
+	 * @param a a magnitude
+	 * @param d a unsigned divisor, which is not zero
+	 * @return the unsigned remainder of a / d
+	 */
+	static long remainderByLimb(long [] a, long d) {
+		int s = Long.numberOfLeadingZeros(d);
+		long dn = d << s;
+		long r = 0L;
+		for (int i = a.length - 1; i >= 0; i--) {
+			long hi = s == 0 ? r : (r << s) | (a[i] >>> (64 - s));
+			long lo = a[i] << s;
+			long qi = divlu(hi, lo, dn);
+			r = (lo - qi * dn) >>> s;
+		}
+		return r;
+	}
+	
+	/**
+	 * @param u1 the high 64 bits of the dividend, which must be less than v
+	 * @param u0 the low 64 bits of the dividend
+	 * @param v a divisor with it's top bit set
+	 * @return the unsigned quotient (u1 * 2^64 + u0) / v, the remainder is u0 - q * v 
+	 */
+	static long divlu(long u1, long u0, long v) {
+		long vn1 = v >>> 32;
+		long vn0 = v & MASK_32;
+		long un1 = u0 >>> 32;
+		long un0 = u0 & MASK_32;
+		
+		long q1 = Long.divideUnsigned(u1, vn1);
+		long rhat = u1 - q1 * vn1;
+		while (Long.compareUnsigned(q1, B_32) >= 0 
+				|| Long.compareUnsigned(q1 * vn0, (rhat << 32) + un1) > 0) {
+			q1--;
+			rhat += vn1;
+			if (Long.compareUnsigned(rhat, B_32) >= 0) {
+				break;
+			}
+		}
+		long un21 = (u1 << 32) + un1 - q1 * v;
+		long q0 = Long.divideUnsigned(un21, vn1);
+		rhat = un21 - q0 * vn1;
+		while (Long.compareUnsigned(q0, B_32) >= 0 
+				|| Long.compareUnsigned(q0 * vn0, (rhat << 32) + un0) > 0) {
+			q0--;
+			rhat += vn1;
+			if (Long.compareUnsigned(rhat, B_32) >= 0) {
+				break;
+			}
+		}
+		return (q1 << 32) + q0;
+	}
+	
+	/**
+	 * @param a greater than or equal to b
+	 * @param b at least 2 limbs
+	 * @param quotient false to skip storing the quotient
+	 */
+	private static long[][] knuth(long [] a, long [] b, boolean quotient) {
+		int n = b.length;
+		int m = a.length - n;
+		int s = Long.numberOfLeadingZeros(b[n - 1]);
+		long [] vn = shiftLeft(b, s, n);
+		long [] un = shiftLeft(a, s, a.length + 1);
+		long [] q = quotient ? new long[m + 1] : null;
+		long vTop = vn[n - 1];
+		long vNext = vn[n - 2];
+		for (int j = m; j >= 0; j--) {
+			long ujn = un[j + n];
+			long ujn1 = un[j + n - 1];
+			long qhat;
+			long rhat;
+			boolean rhatOverflow = false;
+			if (ujn == vTop) {
+				qhat = -1L;
+				rhat = ujn1 + vTop;
+				rhatOverflow = Long.compareUnsigned(rhat, ujn1) < 0;
+			} else {
+				qhat = divlu(ujn, ujn1, vTop);
+				rhat = ujn1 - qhat * vTop;
+			}
+			while (!rhatOverflow) {
+				long phi = Math.unsignedMultiplyHigh(qhat, vNext);
+				long plo = qhat * vNext;
+				int c = Long.compareUnsigned(phi, rhat);
+				if (c < 0 || (c == 0 && Long.compareUnsigned(plo, un[j + n - 2]) <= 0)) {
+					break;
+				}
+				qhat--;
+				long r2 = rhat + vTop;
+				rhatOverflow = Long.compareUnsigned(r2, rhat) < 0;
+				rhat = r2;
+			}
+			if (multiplySubtract(un, j, vn, qhat)) {
+				qhat--;
+				addBack(un, j, vn);
+			}
+			if (quotient) {
+				q[j] = qhat;
+			}
+		}
+		long [] r = new long[n];
+		for (int i = 0; i < n; i++) {
+			r[i] = s == 0 ? un[i] : (un[i] >>> s) | (un[i + 1] << (64 - s));
+		}
+		return new long[][] {quotient ? Limbs.normalize(q, q.length) : null, Limbs.normalize(r, n)};
+	}
+	
+	/**
+	 * un[j..j+n] -= qhat * vn
+	 * @return true when the result went negative
+	 */
+	private static boolean multiplySubtract(long [] un, int j, long [] vn, long qhat) {
+		long carry = 0L;
+		long borrow = 0L;
+		int n = vn.length;
+		for (int i = 0; i < n; i++) {
+			long plo = qhat * vn[i];
+			long phi = Math.unsignedMultiplyHigh(qhat, vn[i]);
+			plo += carry;
+			if (Long.compareUnsigned(plo, carry) < 0) {
+				phi++;
+			}
+			long x = un[i + j];
+			long t = x - plo;
+			long b = Long.compareUnsigned(x, plo) < 0 ? 1L : 0L;
+			long t2 = t - borrow;
+			if (Long.compareUnsigned(t, borrow) < 0) {
+				b = 1L;
+			}
+			un[i + j] = t2;
+			borrow = b;
+			carry = phi;
+		}
+		long x = un[j + n];
+		long t = x - carry;
+		boolean negative = Long.compareUnsigned(x, carry) < 0;
+		long t2 = t - borrow;
+		if (Long.compareUnsigned(t, borrow) < 0) {
+			negative = true;
+		}
+		un[j + n] = t2;
+		return negative;
+	}
+	
+	/**
+	 * un[j..j+n] += vn, dropping the final carry
+	 */
+	private static void addBack(long [] un, int j, long [] vn) {
+		long carry = 0L;
+		int n = vn.length;
+		for (int i = 0; i < n; i++) {
+			long x = un[i + j];
+			long s = x + vn[i];
+			long c = Long.compareUnsigned(s, x) < 0 ? 1L : 0L;
+			long s2 = s + carry;
+			if (s2 == 0L && carry == 1L) {
+				c = 1L;
+			}
+			un[i + j] = s2;
+			carry = c;
+		}
+		un[j + n] += carry;
+	}
+	
+	/**
+	 * @return a << s (s < 64) in a new array of the length
+	 */
+	private static long[] shiftLeft(long [] a, int s, int length) {
+		long [] r = new long[length];
+		if (s == 0) {
+			System.arraycopy(a, 0, r, 0, a.length);
+			return r;
+		}
+		long prior = 0L;
+		for (int i = 0; i < a.length; i++) {
+			r[i] = (a[i] << s) | (prior >>> (64 - s));
+			prior = a[i];
+		}
+		if (a.length < length) {
+			r[a.length] = prior >>> (64 - s);
+		}
+		return r;
+	}
+}
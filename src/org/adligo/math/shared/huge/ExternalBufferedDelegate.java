@@ -0,0 +1,60 @@
+package org.adligo.math.shared.huge;
+
+/**
+ * Holds values outside of RAM in a memory mapped file, see {@link MappedLimbs}.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+class ExternalBufferedDelegate extends AbstractLimbDelegate {
+	private final BufferLimbs limbs;
+	
+	ExternalBufferedDelegate(BufferLimbs limbs, boolean negative) {
+		super(negative);
+		this.limbs = limbs;
+	}
+	
+	@Override
+	public boolean isInRam() {
+		return false;
+	}
+
+	@Override
+	long limbLength() {
+		return limbs.length();
+	}
+
+	@Override
+	long limb(long index) {
+		return limbs.get(index);
+	}
+
+	@Override
+	long lowestLimb() {
+		return limbs.lowestLimb();
+	}
+
+	@Override
+	long magnitudeBitCount() {
+		return limbs.bitCount();
+	}
+}
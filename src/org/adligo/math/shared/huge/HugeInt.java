@@ -1,22 +1,17 @@
 package org.adligo.math.shared.huge;
 
-import static org.adligo.i_math.shared.huge.HugeConstants.MAX_BYTE;
 import static org.adligo.i_math.shared.huge.HugeConstants.MAX_CHUNK;
-import static org.adligo.i_math.shared.huge.HugeConstants.MAX_INT;
-import static org.adligo.i_math.shared.huge.HugeConstants.MAX_LONG;
-import static org.adligo.i_math.shared.huge.HugeConstants.MAX_SHORT;
-import static org.adligo.i_math.shared.huge.HugeConstants.MIN_BYTE;
-import static org.adligo.i_math.shared.huge.HugeConstants.MIN_INT;
-import static org.adligo.i_math.shared.huge.HugeConstants.MIN_LONG;
-import static org.adligo.i_math.shared.huge.HugeConstants.MIN_SHORT;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.util.Iterator;
-import java.util.function.Supplier;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.adligo.i_math.shared.IntType;
-import org.adligo.i_math.shared.MathException;
 import org.adligo.i_math.shared.huge.HugeConstants;
 import org.adligo.i_math.shared.huge.I_HugeInt;
 import org.adligo.i_math.shared.huge.I_HugeIntBuffer;
@@ -48,7 +43,7 @@ import org.adligo.i_math.shared.huge.I_HugeIntBuffer;
  * limitations under the License.
  * </code><pre>
  */
-public class HugeInt implements I_HugeInt {
+public class HugeInt implements I_HugeInt, Comparable<I_HugeInt> {
 	public static final String A_NUMBER_IS_REQUIRED = "A number is required!";
 	public static final String ADDING_OF_NEGATIVE_NUMBERS_IS_NOT_SUPPORTED_YET = "Adding of negative numbers is not supported yet!";
 	public static final String THIS_HUGE_INT_DOESN_T_FIT_INTO_A_BIG_INTEGER = "This HugeInt doesn't fit into a BigInteger!";
@@ -56,530 +51,1157 @@ public class HugeInt implements I_HugeInt {
 	public static final String THIS_HUGE_INT_DOESN_T_FIT_INTO_A_SHORT = "This HugeInt doesn't fit into a short!";
 	public static final String THIS_HUGE_INT_DOESN_T_FIT_INTO_A_BYTE = "This huge int doesn't fit into a byte!";
 	public static final String THIS_HUGE_INT_DOESN_T_FIT_INTO_A_INT = "This HugeInt doesn't fit into a int!";
+	public static final String THE_EXPONENT_MUST_NOT_BE_NEGATIVE = "The exponent must not be negative!";
+	public static final String THE_MODULUS_MUST_BE_POSITIVE = "The modulus must be positive!";
+	public static final String DIVISION_BY_ZERO = "Division by zero!";
+	public static final String THE_BIT_INDEX_MUST_NOT_BE_NEGATIVE = "The bit index must not be negative!";
+	public static final String THE_RADIX_IS_OUT_OF_RANGE = "The radix is out of range!";
+	public static final String A_DIGIT_IS_REQUIRED = "A digit is required!";
+	public static final String THE_CHARACTER_IS_NOT_A_DIGIT_OF_THE_RADIX = "The character is not a digit of the radix!";
 	public static final HugeInt ZERO = new HugeInt((byte) 0);
 	public static final HugeInt ONE = new HugeInt((byte) 1);
 	public static final HugeInt TWO = new HugeInt((byte) 2);
-	public static final HugeInt TEN = new HugeInt((byte) 2);
+	public static final HugeInt TEN = new HugeInt((byte) 10);
+	/**
+	 * the number of limbs (64 bits each) in the larger operand, 
+	 * where {@link #add(I_HugeInt)} switches to a parallel carry lookahead add,
+	 * see {@link ParallelAdd}
+	 */
+	public static final int PARALLEL_ADD_LIMBS = 1 << 16;
 	
+	/**
+	 * @param b a value that doesn't fit into a long
+	 */
 	private static AbstractDelegate getDelegate(BigInteger b) {
-		int c = MAX_CHUNK.compareTo(b);
-		if (c >= 0) {
-			if (b.compareTo(MIN_BYTE) >= 0 && b.compareTo(MAX_BYTE) <= 0) {
-				return new ByteDelegate(b.byteValueExact());
-			} else if (b.compareTo(MIN_SHORT) >= 0 && b.compareTo(MAX_SHORT) <= 0) {
-				return new ShortDelegate(b.shortValueExact());
-			} else if (b.compareTo(MIN_INT) >= 0 && b.compareTo(MAX_INT) <= 0) {
-				return new IntDelegate(b.intValueExact());
-			} else if (b.compareTo(MIN_LONG) >= 0 && b.compareTo(MAX_LONG) <= 0) {
-				return new LongDelegate(b.longValueExact());
+		if (MAX_CHUNK.compareTo(b.abs()) >= 0) {
+			return new BigIntegerDelegate(b);
+		}
+		return new LimbDelegate(Limbs.fromBig(b), b.signum() < 0);
+	}
+	
+	private static IntType typeOf(long l) {
+		if (l >= Byte.MIN_VALUE && l <= Byte.MAX_VALUE) {
+			return IntType.Byte;
+		} else if (l >= Short.MIN_VALUE && l <= Short.MAX_VALUE) {
+			return IntType.Short;
+		} else if (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE) {
+			return IntType.Int;
+		}
+		return IntType.Long;
+	}
+	
+	/**
+	 * @param mag a normalized limb magnitude
+	 * @param negative
+	 * @return a HugeInt using the smallest delegate that can hold the value
+	 */
+	static HugeInt valueOf(long [] mag, boolean negative) {
+		if (mag.length <= 1) {
+			long l = mag.length == 0 ? 0L : mag[0];
+			if (l >= 0) {
+				return new HugeInt(negative ? -l : l);
+			} else if (negative && l == Long.MIN_VALUE) {
+				return new HugeInt(l);
+			}
+		}
+		if (Limbs.fitsChunk(mag)) {
+			return new HugeInt(Limbs.toBig(mag, negative));
+		}
+		return new HugeInt(new LimbDelegate(mag, negative));
+	}
+	
+	/**
+	 * @param h
+	 * @return the magnitude of h as limbs
+	 */
+	static long[] toLimbs(I_HugeInt h) {
+		if (h instanceof HugeInt) {
+			HugeInt hi = (HugeInt) h;
+			if (hi.delegate == null) {
+				return Limbs.fromLong(hi.small);
+			}
+			return hi.delegate.toLimbs();
+		} else if (h.isLong()) {
+			return Limbs.fromLong(h.toLong());
+		} else if (h.isBig()) {
+			return Limbs.fromBig(h.toBig());
+		}
+		Limbs.Builder b = new Limbs.Builder();
+		Iterator<BigInteger> it = h.toStream(true).iterator();
+		while (it.hasNext()) {
+			BigInteger n = it.next();
+			if (n == null) {
+				break;
+			}
+			b.add(n);
+		}
+		return b.toLimbs();
+	}
+	
+	/**
+	 * adds the signed magnitudes a and b
+	 */
+	static HugeInt add(long [] a, boolean aNegative, long [] b, boolean bNegative) {
+		return add(a, aNegative, b, bNegative, isParallelAdd(a.length, b.length));
+	}
+	
+	static HugeInt add(long [] a, boolean aNegative, long [] b, boolean bNegative, boolean parallel) {
+		if (parallel) {
+			return addParallel(new LimbDelegate(a, aNegative), new LimbDelegate(b, bNegative));
+		} else if (aNegative == bNegative) {
+			return valueOf(Limbs.add(a, b), aNegative);
+		}
+		int c = Limbs.compare(a, b);
+		if (c == 0) {
+			return ZERO;
+		} else if (c > 0) {
+			return valueOf(Limbs.subtract(a, b), aNegative);
+		}
+		return valueOf(Limbs.subtract(b, a), bNegative);
+	}
+	
+	/**
+	 * adds the signed values a and b into the empty store out 
+	 */
+	static HugeInt add(AbstractLimbDelegate a, AbstractLimbDelegate b, BufferLimbs out) {
+		return add(a, b, out, isParallelAdd(a.limbLength(), b.limbLength()));
+	}
+	
+	static HugeInt add(AbstractLimbDelegate a, AbstractLimbDelegate b, BufferLimbs out, boolean parallel) {
+		if (a.isNegative() == b.isNegative()) {
+			if (parallel) {
+				ParallelAdd.add(a, b, out);
 			} else {
-				return new BigIntegerDelegate(b);
+				out.add(a, b);
 			}
+			return valueOf(out, a.isNegative());
+		}
+		int c = AbstractLimbDelegate.compareMagnitude(a, b);
+		if (c == 0) {
+			return ZERO;
+		} else if (c < 0) {
+			AbstractLimbDelegate t = a;
+			a = b;
+			b = t;
+		}
+		if (parallel) {
+			ParallelAdd.subtract(a, b, out);
 		} else {
-			byte [] bytes = b.toByteArray();
-			//TODO split into chunks bad programmer!
-			return new BigIntegerDelegate(b);
-			
+			out.subtract(a, b);
+		}
+		return valueOf(out, a.isNegative());
+	}
+	
+	/**
+	 * adds the signed values a and b into a in heap limb array, on the fork join pool
+	 */
+	static HugeInt addParallel(AbstractLimbDelegate a, AbstractLimbDelegate b) {
+		if (a.isNegative() == b.isNegative()) {
+			return valueOf(ParallelAdd.add(a, b), a.isNegative());
+		}
+		int c = AbstractLimbDelegate.compareMagnitude(a, b);
+		if (c == 0) {
+			return ZERO;
+		} else if (c > 0) {
+			return valueOf(ParallelAdd.subtract(a, b), a.isNegative());
+		}
+		return valueOf(ParallelAdd.subtract(b, a), b.isNegative());
+	}
+	
+	private static boolean isParallelAdd(long aLimbs, long bLimbs) {
+		return Math.max(aLimbs, bLimbs) >= PARALLEL_ADD_LIMBS 
+				&& Runtime.getRuntime().availableProcessors() > 1;
+	}
+	
+	/**
+	 * @param out a trimmed store
+	 * @param negative
+	 * @return a HugeInt using the store, or a in RAM delegate when the value fits in a chunk
+	 */
+	static HugeInt valueOf(BufferLimbs out, boolean negative) {
+		if (out.bitLength() <= HugeConstants.MAX_CHUNK.bitLength()) {
+			long [] mag = new long[(int) out.length()];
+			for (int i = 0; i < mag.length; i++) {
+				mag[i] = out.get(i);
+			}
+			out.close();
+			return valueOf(mag, negative);
+		}
+		return new HugeInt(out.toDelegate(negative));
+	}
+	
+	/**
+	 * @param a
+	 * @param b
+	 * @return a empty store for the result of a operation on a and b,
+	 * a file when either is not in RAM, off heap when either is off heap,
+	 * or null when the result should be a in heap limb array
+	 */
+	static BufferLimbs newStore(I_HugeInt a, I_HugeInt b) {
+		if (!a.isInRam() || !b.isInRam()) {
+			return MappedLimbs.newTemp();
+		} else if (isOffHeap(a) || isOffHeap(b)) {
+			return new DirectLimbs();
+		}
+		return null;
+	}
+	
+	private static boolean isOffHeap(I_HugeInt h) {
+		return h instanceof HugeInt && ((HugeInt) h).delegate instanceof RamBufferedDelegate;
+	}
+	
+	/**
+	 * @param littleToBig from little to big
+	 * @return a limbs collected into a HugeInt
+	 */
+	static HugeInt valueOf(I_LimbCursor littleToBig, boolean negative) {
+		long [] mag = new long[4];
+		int len = 0;
+		while (littleToBig.hasNext()) {
+			if (len == mag.length) {
+				long [] t = new long[len << 1];
+				System.arraycopy(mag, 0, t, 0, len);
+				mag = t;
+			}
+			mag[len++] = littleToBig.next();
+		}
+		return valueOf(Limbs.normalize(mag, len), negative);
+	}
+	
+	/**
+	 * @param h
+	 * @return a cursor from little to big over the magnitude of h
+	 */
+	static I_LimbCursor limbCursor(I_HugeInt h) {
+		if (h instanceof HugeInt) {
+			return ((HugeInt) h).limbCursor();
+		} else if (h instanceof HugeIntBuffer) {
+			return new LimbCursor(((HugeIntBuffer) h).limbed(), true);
+		}
+		return new ChunkLimbCursor(h.toStream(true));
+	}
+	
+	/**
+	 * @param h
+	 * @return a view of h that provides random access to it's limbs
+	 */
+	static AbstractLimbDelegate limbed(I_HugeInt h) {
+		if (h instanceof HugeInt) {
+			AbstractDelegate d = ((HugeInt) h).delegate;
+			if (d == null) {
+				return new LimbDelegate(Limbs.fromLong(((HugeInt) h).small), ((HugeInt) h).small < 0);
+			} else if (d instanceof AbstractLimbDelegate) {
+				return (AbstractLimbDelegate) d;
+			} else if (d instanceof BigIntegerDelegate) {
+				return ((BigIntegerDelegate) d).limbed();
+			}
+		} else if (h instanceof HugeIntBuffer) {
+			return ((HugeIntBuffer) h).limbed();
+		}
+		return new LimbDelegate(toLimbs(h), !h.isPositive());
+	}
+	
+	/**
+	 * Copies a value into a memory mapped file, so that it doesn't use 
+	 * the java heap.  Values that fit into a single chunk are kept in RAM.
+	 * @param value
+	 * @param file the file is overwritten and backs the returned value
+	 * @return
+	 */
+	public static HugeInt toExternal(I_HugeInt value, File file) {
+		return toExternal(value.toStream(true), file, !value.isPositive());
+	}
+	
+	/**
+	 * Writes a stream of chunks into a memory mapped file, so that values larger 
+	 * than the java heap can be created.  Values that fit into a single chunk are kept in RAM.
+	 * @param s a stream of positive chunks from little to big
+	 * @param file the file is overwritten and backs the returned value
+	 * @return
+	 */
+	public static HugeInt toExternal(Stream<BigInteger> s, File file) {
+		return toExternal(s, file, false);
+	}
+	
+	/**
+	 * Copies a value into direct ByteBuffers outside of the java heap, 
+	 * so that it doesn't add to garbage collection times.  
+	 * Values that fit into a single chunk are kept on the heap.
+	 * @param value
+	 * @return
+	 */
+	public static HugeInt toOffHeap(I_HugeInt value) {
+		return ingest(value.toStream(true), new DirectLimbs(), !value.isPositive());
+	}
+	
+	/**
+	 * Writes a stream of chunks into direct ByteBuffers outside of the java heap.
+	 * Values that fit into a single chunk are kept on the heap.
+	 * @param s a stream of positive chunks from little to big
+	 * @return
+	 */
+	public static HugeInt toOffHeap(Stream<BigInteger> s) {
+		return ingest(s, new DirectLimbs(), false);
+	}
+	
+	/**
+	 * adds the values as a balanced tree on the fork join pool,
+	 * see {@link BalancedTree}
+	 * @param values
+	 * @return the sum, zero when there are no values
+	 */
+	public static HugeInt sum(Stream<? extends I_HugeInt> values) {
+		return BalancedTree.sum(values.toArray(I_HugeInt[]::new));
+	}
+
+	/**
+	 * multiplies the values as a balanced tree on the fork join pool,
+	 * so that factorials, lcms of ranges and the like multiply operands of similar size,
+	 * see {@link BalancedTree}
+	 * @param values
+	 * @return the product, one when there are no values
+	 */
+	public static HugeInt product(Stream<? extends I_HugeInt> values) {
+		return BalancedTree.product(values.toArray(I_HugeInt[]::new));
+	}
+
+	/**
+	 * @param digits decimal digits with a optional leading - or +
+	 * @return the value of the digits, see {@link #parse(CharSequence, int)}
+	 * @throws NumberFormatException
+	 */
+	public static HugeInt parse(CharSequence digits) {
+		return parse(digits, 10);
+	}
+
+	/**
+	 * splits the digits at cached powers of the radix, so that large numbers
+	 * parse in sub quadratic time, see {@link Radix}
+	 * @param digits with a optional leading - or +
+	 * @param radix from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}
+	 * @return the value of the digits
+	 * @throws NumberFormatException
+	 */
+	public static HugeInt parse(CharSequence digits, int radix) {
+		return Radix.parse(digits, radix);
+	}
+
+	/**
+	 * reads the rest of in, like the output of {@link #write(Appendable, int)}
+	 * @param in
+	 * @param radix
+	 * @return the value of the digits, see {@link #parse(CharSequence, int)}
+	 * @throws IOException
+	 * @throws NumberFormatException
+	 */
+	public static HugeInt read(Reader in, int radix) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		char [] buf = new char[1 << 13];
+		int n;
+		while ((n = in.read(buf)) != -1) {
+			sb.append(buf, 0, n);
 		}
+		return parse(sb, radix);
+	}
+
+	private static HugeInt toExternal(Stream<BigInteger> s, File file, boolean negative) {
+		return ingest(s, new MappedLimbs(file), negative);
 	}
+	
+	private static HugeInt ingest(Stream<BigInteger> s, BufferLimbs limbs, boolean negative) {
+		Iterator<BigInteger> it = s.iterator();
+		long i = 0;
+		while (it.hasNext()) {
+			BigInteger n = it.next();
+			if (n == null) {
+				break;
+			}
+			limbs.addChunk(n, i++);
+		}
+		if (i == 0) {
+			throw new IllegalArgumentException(A_NUMBER_IS_REQUIRED);
+		}
+		limbs.trim();
+		return valueOf(limbs, negative);
+	}
+	
+	/**
+	 * the value when it fits into a long, in which case the delegate is null
+	 */
+	private final long small;
+	private final IntType type;
+	/**
+	 * null for values that fit into a long, so that the most common values 
+	 * are a single object, and the accessors don't need to dispatch on a type
+	 */
 	private final AbstractDelegate delegate;
 	
+	private HugeInt(AbstractDelegate delegate) {
+		this.small = 0L;
+		this.type = delegate.getType();
+		this.delegate = delegate;
+	}
+	
+	private HugeInt(HugeInt other) {
+		this.small = other.small;
+		this.type = other.type;
+		this.delegate = other.delegate;
+	}
+	
 	public HugeInt(byte b) {
-		delegate = new ByteDelegate(b);
+		this((long) b);
 	}
 	
 	public HugeInt(short s) {
-		if (s < Byte.MIN_VALUE || s > Byte.MAX_VALUE) {
-			delegate = new ShortDelegate(s);
-		} else {
-			delegate = new ByteDelegate((byte) s);
-		}
+		this((long) s);
 	}
 	
 	public HugeInt(int i) {
-		if (i >= Byte.MIN_VALUE && i <= Byte.MAX_VALUE) {
-			delegate = new ByteDelegate((byte) i);
-		} else if (i >= Short.MIN_VALUE && i <= Short.MAX_VALUE) {
-			delegate = new ShortDelegate((short) i);
-		} else {
-			delegate = new IntDelegate(i);
-		}
+		this((long) i);
 	}
 	
 	public HugeInt(long l) {
-		if (l >= Byte.MIN_VALUE && l <= Byte.MAX_VALUE) {
-			delegate = new ByteDelegate((byte) l);
-		} else if (l >= Short.MIN_VALUE && l <= Short.MAX_VALUE) {
-			delegate = new ShortDelegate((short) l);
-		} else if (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE) {
-			delegate = new IntDelegate((short) l);
-		} else {
-			delegate = new LongDelegate(l);
-		}
+		small = l;
+		type = typeOf(l);
+		delegate = null;
 	}
 
 	public HugeInt(BigInteger b) {
-		delegate = getDelegate(b);
+		if (b.bitLength() < 64) {
+			small = b.longValue();
+			type = typeOf(small);
+			delegate = null;
+		} else {
+			small = 0L;
+			delegate = getDelegate(b);
+			type = delegate.getType();
+		}
 	}
 	
+	/**
+	 * @param s a stream of positive chunks from little to big
+	 */
 	public HugeInt(Stream<BigInteger> s) {
+		this(fromStream(s));
+	}
+	
+	private static HugeInt fromStream(Stream<BigInteger> s) {
 		Iterator<BigInteger> it = s.iterator();
-		BigInteger first = it.next();
+		BigInteger first = it.hasNext() ? it.next() : null;
 		if (first != null) {
 			if (it.hasNext()) {
 				BigInteger second = it.next();
 				if (second != null) {
-					//TODO 
-					delegate = null;
-					return;
+					Limbs.Builder b = new Limbs.Builder();
+					b.add(first);
+					b.add(second);
+					while (it.hasNext()) {
+						BigInteger n = it.next();
+						if (n == null) {
+							break;
+						}
+						b.add(n);
+					}
+					return valueOf(b.toLimbs(), false);
 				}
 			} 
-			delegate = getDelegate(first);
-			return;
+			return new HugeInt(first);
 		} 
 		throw new IllegalArgumentException(A_NUMBER_IS_REQUIRED);
 	}
 	
+	/**
+	 * Creates a immutable copy of the current value of a buffer.
+	 * @param b a {@link HugeIntBuffer} or any other buffer that is also a I_HugeInt
+	 */
 	public HugeInt(I_HugeIntBuffer b) {
-		//TODO
-		delegate = null;
+		this(fromBuffer(b));
+	}
+	
+	private static HugeInt fromBuffer(I_HugeIntBuffer b) {
+		if (!(b instanceof I_HugeInt)) {
+			throw new IllegalArgumentException(A_NUMBER_IS_REQUIRED);
+		}
+		I_HugeInt h = (I_HugeInt) b;
+		if (h.isLong()) {
+			return new HugeInt(h.toLong());
+		}
+		AbstractLimbDelegate d = limbed(h);
+		return valueOf(d.toLimbs(), d.isNegative());
 	}
 	
 	@Override
 	public boolean isBig() {
-		IntType it = delegate.getType();
-		switch (it) {
-			case Byte:
-			case Short:
-			case Int:
-			case Long:
-				return true;
-			case Big:
-				if (delegate instanceof BigIntegerDelegate) {
-					return true;
-				} 
-			default:
-				return false;
-		}
+		return delegate == null || delegate instanceof BigIntegerDelegate;
 	}
 	@Override
 	public I_HugeInt toHuge() {
-		// TODO Auto-generated method stub
-		return null;
+		return this;
 	}
 	@Override
 	public boolean isLong() {
-		IntType it = delegate.getType();
-		switch (it) {
-			case Byte:
-			case Short:
-			case Int:
-			case Long:
-				return true;
-			default:
-				return false;
-		}
+		return delegate == null;
 	}
 	
 	@Override
 	public BigInteger toBig() {
-		IntType it = delegate.getType();
-		switch (it) {
-			case Byte:
-				return BigInteger.valueOf(((ByteDelegate) delegate).toByte());
-			case Short:
-				return BigInteger.valueOf(((ShortDelegate) delegate).toShort());
-			case Int:
-				return BigInteger.valueOf(((IntDelegate) delegate).toInt());
-			case Long:
-				return BigInteger.valueOf(((LongDelegate) delegate).toLong());
-			default:
-				if (delegate instanceof BigIntegerDelegate) {
-					return ((BigIntegerDelegate) delegate).toBigInteger();
-				} else if (delegate instanceof RamBufferedDelegate) {
-					throw new MathException("TODO");
-				} else {
-					throw new MathException("TODO");
-				}
+		if (delegate == null) {
+			return BigInteger.valueOf(small);
+		} else if (delegate instanceof BigIntegerDelegate) {
+			return ((BigIntegerDelegate) delegate).toBigInteger();
 		}
+		return ((AbstractLimbDelegate) delegate).toBigInteger();
 	}
 	@Override
 	public boolean isInt() {
-		IntType it = delegate.getType();
-		switch (it) {
-			case Byte:
-			case Short:
-			case Int:
-				return true;
-			default:
-				return false;
-		}
+		return delegate == null && small == (int) small;
 	}
 	@Override
 	public long toLong() {
-		IntType it = delegate.getType();
-		switch (it) {
-			case Byte:
-				return ((ByteDelegate) delegate).toByte();
-			case Short:
-				return ((ShortDelegate) delegate).toShort();
-			case Int:
-				return ((IntDelegate) delegate).toInt();
-			case Long:
-				return ((LongDelegate) delegate).toLong();
-			default:
+		if (delegate == null) {
+			return small;
 		}
 		throw new IllegalStateException(THIS_HUGE_INT_DOESN_T_FIT_INTO_A_LONG);
 	}
 	
 	@Override
 	public boolean isShort() {
-		IntType it = delegate.getType();
-		switch (it) {
-			case Byte:
-			case Short:
-				return true;
-			default:
-				return false;
-		}
+		return delegate == null && small == (short) small;
 	}
 	@Override
 	public int toInt() {
-		IntType it = delegate.getType();
-		switch (it) {
-			case Byte:
-				return ((ByteDelegate) delegate).toByte();
-			case Short:
-				return ((ShortDelegate) delegate).toShort();
-			case Int:
-				return ((IntDelegate) delegate).toInt();
-			default:
+		if (delegate == null && small == (int) small) {
+			return (int) small;
 		}
 		throw new IllegalStateException(THIS_HUGE_INT_DOESN_T_FIT_INTO_A_INT);
 	}
 	@Override
 	public boolean isByte() {
-		IntType it = delegate.getType();
-		switch (it) {
-			case Byte:
-				return true;
-			default:
-				return false;
-		}
+		return delegate == null && small == (byte) small;
 	}
 	@Override
 	public short toShort() {
-		IntType it = delegate.getType();
-		switch (it) {
-			case Byte:
-				return ((ByteDelegate) delegate).toByte();
-			case Short:
-				return ((ShortDelegate) delegate).toShort();
-			default:
+		if (delegate == null && small == (short) small) {
+			return (short) small;
 		}
 		throw new IllegalStateException(THIS_HUGE_INT_DOESN_T_FIT_INTO_A_SHORT);
 	}
 	
 	@Override
 	public IntType getType() {
-		return delegate.getType();
+		return type;
 	}
 	@Override
 	public byte toByte() {
-		IntType it = delegate.getType();
-		switch (it) {
-			case Byte:
-				return ((ByteDelegate) delegate).toByte();
-			default:
+		if (delegate == null && small == (byte) small) {
+			return (byte) small;
 		}
 		throw new IllegalStateException(THIS_HUGE_INT_DOESN_T_FIT_INTO_A_BYTE);
 	}
 	@Override
 	public I_HugeInt add(I_HugeInt other) {
-		if (!this.isPositive() || !other.isPositive()) {
-			throw new IllegalStateException(ADDING_OF_NEGATIVE_NUMBERS_IS_NOT_SUPPORTED_YET);
+		if (delegate == null && other.isLong()) {
+			long a = small;
+			long b = other.toLong();
+			long r = a + b;
+			if (((a ^ r) & (b ^ r)) >= 0) {
+				return new HugeInt(r);
+			}
+		}
+		BufferLimbs out = newStore(this, other);
+		if (out != null) {
+			return add(limbed(this), limbed(other), out);
+		} else if (!(other instanceof HugeInt) && !(other instanceof HugeIntBuffer) 
+				&& this.isPositive() == other.isPositive()) {
+			return valueOf(new AddStream(limbCursor(), limbCursor(other)), !isPositive());
 		}
-		return new HugeInt(new AddStream(this.toStream(), other.toStream()).calc());
+		return add(toLimbs(this), !isPositive(), toLimbs(other), !other.isPositive());
 	}
 	
-	@Override
-	public I_HugeInt add(I_HugeInt other, I_HugeIntBuffer buffer) {
-		// TODO Auto-generated method stub
-		return null;
+	/**
+	 * multiplies with schoolbook, Karatsuba, Toom-3 or transforms depending on the size
+	 * of the operands, large products use all of the cores, see {@link Multiply}.
+	 * When either operand is off heap or mapped, the product is written into 
+	 * a new store of the same kind, and
+	 * <ul>
+	 * <li>when both operands have at least {@link Ntt#NTT_LIMBS} limbs, they are 
+	 *   read straight from their stores into the transforms, which are heap arrays 
+	 *   of about 36 bytes per limb of the padded product (see {@link Ntt#heapBytes(long)})</li>
+	 * <li>when those transforms don't fit in half of the free heap, or the product is 
+	 *   past {@link Ntt#MAX_LENGTH} limbs, blocks of {@link Ntt#blockLimbs()} limbs of 
+	 *   each operand are multiplied on the heap and added into the store</li>
+	 * <li>otherwise the smaller operand (under {@link Ntt#NTT_LIMBS} limbs) is copied onto 
+	 *   the heap, and the larger one is multiplied by blocks of {@link Multiply#STREAM_LIMBS} 
+	 *   limbs</li>
+	 * </ul>
+	 * @param other
+	 * @return this * other
+	 */
+	public HugeInt multiply(I_HugeInt other) {
+		if (other == this) {
+			return square();
+		} else if (delegate == null && other.isLong()) {
+			long a = small;
+			long b = other.toLong();
+			long lo = a * b;
+			if (Math.multiplyHigh(a, b) == (lo >> 63)) {
+				return new HugeInt(lo);
+			}
+		}
+		boolean negative = isPositive() != other.isPositive();
+		BufferLimbs out = newStore(this, other);
+		if (out != null) {
+			AbstractLimbDelegate a = limbed(this);
+			AbstractLimbDelegate b = limbed(other);
+			long la = a.limbLength();
+			long lb = b.limbLength();
+			if (Math.min(la, lb) >= Ntt.NTT_LIMBS) {
+				if (Ntt.fits(la, lb) && Ntt.fitsHeap(la + lb)) {
+					Ntt.multiply(a, b, out);
+				} else {
+					Multiply.multiply(a, b, Ntt.blockLimbs(), out);
+				}
+				return valueOf(out, negative);
+			} else if (la >= lb) {
+				Multiply.multiply(a, b.toLimbs(), out);
+				return valueOf(out, negative);
+			} else {
+				Multiply.multiply(b, a.toLimbs(), out);
+				return valueOf(out, negative);
+			}
+		}
+		long [] r = Multiply.multiply(limbed(this).toLimbs(), limbed(other).toLimbs());
+		return valueOf(r, negative, out);
 	}
-	@Override
-	public boolean isInRam() {
-		return delegate.isInRam();
+	
+	/**
+	 * @return this * this, which computes each cross product once.
+	 *   Off heap and mapped values with at least {@link Ntt#NTT_LIMBS} limbs are read 
+	 *   straight from their stores into the heap transforms, or by blocks like 
+	 *   {@link #multiply(I_HugeInt)} when the transforms don't fit the heap, 
+	 *   shorter ones are copied onto the heap.
+	 */
+	public HugeInt square() {
+		if (delegate == null) {
+			long lo = small * small;
+			if (lo >= 0 && Math.multiplyHigh(small, small) == 0L) {
+				return new HugeInt(lo);
+			}
+		}
+		BufferLimbs out = newStore(this, this);
+		AbstractLimbDelegate a = limbed(this);
+		long la = a.limbLength();
+		if (out != null && la >= Ntt.NTT_LIMBS) {
+			if (Ntt.fits(la, la) && Ntt.fitsHeap(la << 1)) {
+				Ntt.multiply(a, a, out);
+			} else {
+				Multiply.multiply(a, a, Ntt.blockLimbs(), out);
+			}
+			return valueOf(out, false);
+		}
+		long [] mag = a.toLimbs();
+		return valueOf(Multiply.multiply(mag, mag), false, out);
 	}
-	@Override
-	public boolean isPositive() {
-		return !delegate.isNegative();
+	
+	/**
+	 * @param exponent
+	 * @return this^exponent, by left to right square and multiply
+	 */
+	public HugeInt pow(long exponent) {
+		if (exponent < 0) {
+			throw new IllegalArgumentException(THE_EXPONENT_MUST_NOT_BE_NEGATIVE);
+		} else if (exponent == 0) {
+			return ONE;
+		}
+		HugeInt r = this;
+		for (int i = 62 - Long.numberOfLeadingZeros(exponent); i >= 0; i--) {
+			r = r.square();
+			if (((exponent >>> i) & 1L) != 0L) {
+				r = r.multiply(this);
+			}
+		}
+		return r;
 	}
-	@Override
-	public boolean isGreaterThan(long i) {
-		// TODO Auto-generated method stub
-		return false;
+	
+	/**
+	 * @param exponent a non negative exponent, which may be off heap or mapped
+	 * @param modulus a positive modulus
+	 * @return this^exponent mod modulus, from zero to modulus - 1, with a
+	 *   sliding window, see {@link ModPow}.  Use a cached {@link ModCtx} 
+	 *   when the modulus is reused.
+	 */
+	public HugeInt modPow(I_HugeInt exponent, I_HugeInt modulus) {
+		if (!exponent.isPositive()) {
+			throw new IllegalArgumentException(THE_EXPONENT_MUST_NOT_BE_NEGATIVE);
+		} else if (!modulus.isGreaterThan(0)) {
+			throw new IllegalArgumentException(THE_MODULUS_MUST_BE_POSITIVE);
+		}
+		return new ModCtx(modulus).pow(this, exponent);
 	}
-	@Override
-	public Stream<BigInteger> toStream() {
-		return toStream(true);
+	
+	/**
+	 * @param divisor
+	 * @return this / divisor, rounded toward zero like BigInteger
+	 */
+	public HugeInt divide(I_HugeInt divisor) {
+		return divideAndRemainder(divisor)[0];
 	}
-	@Override
-	public Stream<BigInteger> toStream(boolean littleToBig) {
-		return delegate.toStream(littleToBig);
+	
+	/**
+	 * Off heap and mapped dividends are read from their stores by blocks, 
+	 * see {@link Divide#divideAndRemainder(AbstractLimbDelegate, long[], BufferLimbs)},
+	 * the divisor is copied onto the heap.
+	 * @param divisor
+	 * @return this % divisor, which has the sign of this like BigInteger
+	 */
+	public HugeInt remainder(I_HugeInt divisor) {
+		if (divisor.isLong()) {
+			return new HugeInt(remainder(divisor.toLong()));
+		}
+		AbstractLimbDelegate a = limbed(this);
+		AbstractLimbDelegate b = limbed(divisor);
+		if (AbstractLimbDelegate.compareMagnitude(a, b) < 0) {
+			return this;
+		}
+		BufferLimbs out = newStore(this, divisor);
+		if (out != null) {
+			return valueOf(Divide.divideAndRemainder(a, b.toLimbs(), null), a.isNegative(), out);
+		}
+		return valueOf(Divide.remainder(a.toLimbs(), b.toLimbs()), a.isNegative(), null);
 	}
-}
-
-
-abstract class AbstractDelegate {
 	
-	public boolean isInRam() {
-		return true;
+	/**
+	 * doesn't allocate, even when this is off heap or mapped
+	 * @param divisor
+	 * @return this % divisor, which has the sign of this like BigInteger
+	 */
+	public long remainder(long divisor) {
+		if (divisor == 0L) {
+			throw new IllegalArgumentException(DIVISION_BY_ZERO);
+		} else if (delegate == null) {
+			return divisor == -1L ? 0L : small % divisor;
+		}
+		AbstractLimbDelegate a = (AbstractLimbDelegate) (delegate instanceof BigIntegerDelegate ? 
+				((BigIntegerDelegate) delegate).limbed() : delegate);
+		//note Math.abs(Long.MIN_VALUE) is still the correct unsigned magnitude
+		long r = Divide.remainderByLimb(a, Math.abs(divisor));
+		return a.isNegative() ? -r : r;
 	}
 	
-	public IntType getType() {
-		return IntType.Big;
+	/**
+	 * When this or the divisor is off heap or mapped, the dividend is read
+	 * from it's store by blocks, see {@link Divide#divideAndRemainder(AbstractLimbDelegate, long[], BufferLimbs)},
+	 * and the quotient is written into a new store of the same kind,
+	 * the divisor and the remainder are on the heap.
+	 * @param divisor
+	 * @return the quotient at 0 and remainder at 1, 
+	 * see {@link #divide(I_HugeInt)} and {@link #remainder(I_HugeInt)}
+	 */
+	public HugeInt[] divideAndRemainder(I_HugeInt divisor) {
+		if (delegate == null && divisor.isLong()) {
+			long d = divisor.toLong();
+			if (d == 0L) {
+				throw new IllegalArgumentException(DIVISION_BY_ZERO);
+			} else if (d != -1L) {
+				return new HugeInt[] {new HugeInt(small / d), new HugeInt(small % d)};
+			}
+		}
+		AbstractLimbDelegate a = limbed(this);
+		AbstractLimbDelegate b = limbed(divisor);
+		long lb = b.limbLength();
+		if (lb == 0) {
+			throw new IllegalArgumentException(DIVISION_BY_ZERO);
+		}
+		boolean qNegative = a.isNegative() != b.isNegative();
+		if (AbstractLimbDelegate.compareMagnitude(a, b) < 0) {
+			return new HugeInt[] {ZERO, this};
+		}
+		BufferLimbs out = newStore(this, divisor);
+		if (out != null) {
+			long [] r = Divide.divideAndRemainder(a, b.toLimbs(), out);
+			return new HugeInt[] {valueOf(out, qNegative), valueOf(r, a.isNegative())};
+		} else if (lb == 1) {
+			long [] q = new long[(int) a.limbLength()];
+			long r = Divide.divideByLimb(a, b.limb(0), q);
+			return new HugeInt[] {valueOf(Limbs.normalize(q, q.length), qNegative), 
+					valueOf(Limbs.fromUnsigned(r), a.isNegative())};
+		}
+		long [][] qr = Divide.divideAndRemainder(a.toLimbs(), b.toLimbs());
+		return new HugeInt[] {valueOf(qr[0], qNegative), valueOf(qr[1], a.isNegative())};
 	}
 	
-	public boolean isNegative() {
-		return false;
+	/**
+	 * @param mag a normalized limb magnitude
+	 * @param negative
+	 * @param out a empty store from {@link #newStore(I_HugeInt, I_HugeInt)} or null
+	 */
+	static HugeInt valueOf(long [] mag, boolean negative, BufferLimbs out) {
+		if (out == null) {
+			return valueOf(mag, negative);
+		} else if (Limbs.fitsChunk(mag)) {
+			out.close();
+			return valueOf(mag, negative);
+		}
+		for (int i = 0; i < mag.length; i++) {
+			out.set(i, mag[i]);
+		}
+		return valueOf(out, negative);
 	}
-	public abstract Stream<BigInteger> toStream(boolean littleToBig);
-}
-
-class ByteDelegate extends AbstractDelegate {
-	private byte b;
 	
-	public ByteDelegate(byte b) {
-		this.b = b;
+	/**
+	 * adds on the fork join pool no matter the size of the operands,
+	 * {@link #add(I_HugeInt)} does this on it's own when the larger operand 
+	 * has at least {@link #PARALLEL_ADD_LIMBS} limbs.
+	 * @param other
+	 * @return this + other
+	 */
+	public I_HugeInt addParallel(I_HugeInt other) {
+		BufferLimbs out = newStore(this, other);
+		if (out != null) {
+			return add(limbed(this), limbed(other), out, true);
+		}
+		return addParallel(limbed(this), limbed(other));
 	}
-	public Stream<BigInteger> toStream(boolean littleToBig) {
-		Supplier<BigInteger> sup = new Supplier<BigInteger>() {
-			BigInteger big = BigInteger.valueOf((long) Math.abs(b));
-			@Override
-			public BigInteger get() {
-				BigInteger t = big;
-				big = null;
-				return t;
+	
+	/**
+	 * @param other
+	 * @param buffer when this is a {@link HugeIntBuffer} the sum is written into it 
+	 * and it is returned, so that reusing the buffer doesn't allocate, 
+	 * otherwise this is the same as {@link #add(I_HugeInt)}
+	 */
+	@Override
+	public I_HugeInt add(I_HugeInt other, I_HugeIntBuffer buffer) {
+		if (buffer instanceof HugeIntBuffer) {
+			HugeIntBuffer b = (HugeIntBuffer) buffer;
+			if (b == other) {
+				return b.accumulate(this);
 			}
-			
-		};
-		return Stream.generate(sup);
+			return b.set(this).accumulate(other);
+		}
+		return add(other);
+	}
+	@Override
+	public boolean isInRam() {
+		return delegate == null || delegate.isInRam();
+	}
+	@Override
+	public boolean isPositive() {
+		if (delegate == null) {
+			return small >= 0;
+		}
+		return !delegate.isNegative();
+	}
+	/**
+	 * @return the number of bits in the two's complement of this, 
+	 *   without the sign bit, like BigInteger
+	 */
+	public long bitLength() {
+		if (delegate == null) {
+			return 64 - Long.numberOfLeadingZeros(small < 0 ? ~small : small);
+		} else if (delegate instanceof BigIntegerDelegate) {
+			return ((BigIntegerDelegate) delegate).toBigInteger().bitLength();
+		}
+		AbstractLimbDelegate d = (AbstractLimbDelegate) delegate;
+		long r = d.bitLength();
+		if (d.isNegative() && Long.bitCount(d.limb(d.limbLength() - 1)) == 1 
+				&& d.lowestLimb() == d.limbLength() - 1) {
+			//-2^n fits in n bits
+			r--;
+		}
+		return r;
 	}
 	
-	public IntType getType() {
-		return IntType.Byte;
+	/**
+	 * uses the index of off heap and mapped values, so it doesn't read every limb
+	 * @return the index of the lowest set bit, or -1 for zero, like BigInteger
+	 */
+	public long getLowestSetBit() {
+		if (delegate == null) {
+			return small == 0L ? -1 : Long.numberOfTrailingZeros(small);
+		} else if (delegate instanceof BigIntegerDelegate) {
+			return ((BigIntegerDelegate) delegate).toBigInteger().getLowestSetBit();
+		}
+		return lowestSetBit((AbstractLimbDelegate) delegate);
 	}
-	public boolean isNegative() {
-		if (b < 0) {
-			return true;
+	
+	private static long lowestSetBit(AbstractLimbDelegate d) {
+		long i = d.lowestLimb();
+		if (i == -1) {
+			return -1;
 		}
-		return false;
+		return (i << 6) + Long.numberOfTrailingZeros(d.limb(i));
 	}
-	public byte toByte() {
-		return b;
+	
+	/**
+	 * uses the index of off heap and mapped values, so it doesn't read every limb
+	 * @return the number of bits in the two's complement of this that 
+	 *   differ from the sign bit, like BigInteger
+	 */
+	public long bitCount() {
+		if (delegate == null) {
+			return Long.bitCount(small < 0 ? ~small : small);
+		} else if (delegate instanceof BigIntegerDelegate) {
+			return ((BigIntegerDelegate) delegate).toBigInteger().bitCount();
+		}
+		AbstractLimbDelegate d = (AbstractLimbDelegate) delegate;
+		long r = d.magnitudeBitCount();
+		if (d.isNegative()) {
+			//the two's complement is ~(mag - 1), and mag - 1 clears the lowest set bit 
+			//and sets every bit below it
+			r += lowestSetBit(d) - 1;
+		}
+		return r;
 	}
-}
-
-class ShortDelegate extends AbstractDelegate {
-	private short s;
 	
-	public ShortDelegate(short s) {
-		this.s = s;
+	/**
+	 * @param n
+	 * @return true when bit n of the two's complement of this is set, like BigInteger
+	 */
+	public boolean testBit(long n) {
+		if (n < 0) {
+			throw new IllegalArgumentException(THE_BIT_INDEX_MUST_NOT_BE_NEGATIVE);
+		} else if (delegate == null) {
+			return n >= 64 ? small < 0 : ((small >> n) & 1L) != 0L;
+		} else if (delegate instanceof BigIntegerDelegate) {
+			BigInteger b = ((BigIntegerDelegate) delegate).toBigInteger();
+			return n > Integer.MAX_VALUE ? b.signum() < 0 : b.testBit((int) n);
+		}
+		AbstractLimbDelegate d = (AbstractLimbDelegate) delegate;
+		boolean bit = ((d.limb(n >>> 6) >>> n) & 1L) != 0L;
+		if (!d.isNegative()) {
+			return bit;
+		}
+		long lowest = lowestSetBit(d);
+		if (n <= lowest) {
+			return n == lowest;
+		}
+		return !bit;
 	}
-	public Stream<BigInteger> toStream(boolean littleToBig) {
-		Supplier<BigInteger> sup = new Supplier<BigInteger>() {
-			BigInteger big = BigInteger.valueOf((long) Math.abs(s));
-			@Override
-			public BigInteger get() {
-				BigInteger t = big;
-				big = null;
-				return t;
+
+	/**
+	 * off heap and mapped values are streamed into a new store of the same kind,
+	 * see {@link Bitwise}
+	 * @param n
+	 * @return this * 2^n, or this >> -n when n is negative, like BigInteger
+	 */
+	public HugeInt shiftLeft(long n) {
+		if (n < 0) {
+			return shiftRight(Math.negateExact(n));
+		} else if (n == 0) {
+			return this;
+		} else if (delegate == null && n < 64) {
+			long r = small << n;
+			if ((r >> n) == small) {
+				return new HugeInt(r);
 			}
-			
-		};
-		return Stream.generate(sup);
-	}
-	public IntType getType() {
-		return IntType.Short;
+		}
+		return Bitwise.shiftLeft(limbed(this), n, newStore(this, this));
 	}
-	public boolean isNegative() {
-		if (s < 0) {
-			return true;
+
+	/**
+	 * off heap and mapped values are streamed into a new store of the same kind,
+	 * see {@link Bitwise}
+	 * @param n
+	 * @return this / 2^n rounded toward negative infinity,
+	 *   or this << -n when n is negative, like BigInteger
+	 */
+	public HugeInt shiftRight(long n) {
+		if (n < 0) {
+			return shiftLeft(Math.negateExact(n));
+		} else if (n == 0) {
+			return this;
+		} else if (delegate == null) {
+			return new HugeInt(small >> Math.min(n, 63));
 		}
-		return false;
+		return Bitwise.shiftRight(limbed(this), n, newStore(this, this));
 	}
-	public short toShort() {
-		return s;
+
+	/**
+	 * @param other
+	 * @return this & other, on the two's complement like BigInteger
+	 */
+	public HugeInt and(I_HugeInt other) {
+		return bitwise(Bitwise.Op.AND, other);
 	}
-}
 
-class IntDelegate extends AbstractDelegate {
-	private int i;
-	
-	public IntDelegate(int i) {
-		this.i = i;
+	/**
+	 * @param other
+	 * @return this | other, on the two's complement like BigInteger
+	 */
+	public HugeInt or(I_HugeInt other) {
+		return bitwise(Bitwise.Op.OR, other);
 	}
-	public Stream<BigInteger> toStream(boolean littleToBig) {
-		Supplier<BigInteger> s = new Supplier<BigInteger>() {
-			BigInteger big = BigInteger.valueOf(Math.abs(i));
-			@Override
-			public BigInteger get() {
-				BigInteger t = big;
-				big = null;
-				return t;
-			}
-			
-		};
-		return Stream.generate(s);
+
+	/**
+	 * @param other
+	 * @return this ^ other, on the two's complement like BigInteger
+	 */
+	public HugeInt xor(I_HugeInt other) {
+		return bitwise(Bitwise.Op.XOR, other);
 	}
-	public IntType getType() {
-		return IntType.Int;
+
+	/**
+	 * @param other
+	 * @return this & ~other, on the two's complement like BigInteger
+	 */
+	public HugeInt andNot(I_HugeInt other) {
+		return bitwise(Bitwise.Op.AND_NOT, other);
 	}
-	public boolean isNegative() {
-		if (i < 0) {
-			return true;
+
+	private HugeInt bitwise(Bitwise.Op op, I_HugeInt other) {
+		if (delegate == null && other.isLong()) {
+			return new HugeInt(op.apply(small, other.toLong()));
 		}
-		return false;
+		return Bitwise.apply(op, limbed(this), limbed(other), newStore(this, other));
 	}
-	public int toInt() {
-		return i;
+
+	/**
+	 * @return the decimal digits of this, see {@link #toString(int)}
+	 */
+	@Override
+	public String toString() {
+		return toString(10);
 	}
-}
 
+	/**
+	 * @param radix from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX},
+	 *   otherwise 10 like BigInteger
+	 * @return the digits of this, with a leading - when it's negative
+	 */
+	public String toString(int radix) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			write(sb, radix);
+		} catch (IOException x) {
+			throw new UncheckedIOException(x);
+		}
+		return sb.toString();
+	}
 
-class LongDelegate extends AbstractDelegate {
-	private long l;
+	/**
+	 * appends the digits of this from the most significant, so values with
+	 * hundreds of millions of digits can go to a Writer with out a String of them,
+	 * see {@link Radix}
+	 * @param out
+	 * @param radix from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX},
+	 *   otherwise 10 like BigInteger
+	 * @throws IOException
+	 */
+	public void write(Appendable out, int radix) throws IOException {
+		if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+			radix = 10;
+		}
+		if (delegate == null) {
+			out.append(Long.toString(small, radix));
+		} else if (delegate instanceof BigIntegerDelegate) {
+			out.append(((BigIntegerDelegate) delegate).toBigInteger().toString(radix));
+		} else {
+			Radix.write((AbstractLimbDelegate) delegate, radix, out);
+		}
+	}
+
+	@Override
+	public boolean isGreaterThan(long i) {
+		if (delegate == null) {
+			return small > i;
+		}
+		return compareTo(new HugeInt(i)) > 0;
+	}
 	
-	public LongDelegate(long l) {
-		this.l = l;
+	@Override
+	public int compareTo(I_HugeInt other) {
+		if (delegate == null && other.isLong()) {
+			return Long.compare(small, other.toLong());
+		}
+		boolean negative = !isPositive();
+		if (negative != !other.isPositive()) {
+			return negative ? -1 : 1;
+		}
+		int c = AbstractLimbDelegate.compareMagnitude(limbed(this), limbed(other));
+		return negative ? -c : c;
 	}
-	public Stream<BigInteger> toStream(boolean littleToBig) {
-		Supplier<BigInteger> s = new Supplier<BigInteger>() {
-			BigInteger big = BigInteger.valueOf(Math.abs(l));
-			@Override
-			public BigInteger get() {
-				BigInteger t = big;
-				big = null;
-				return t;
-			}
-			
-		};
-		return Stream.generate(s);
+	/**
+	 * @return a cursor over the magnitude from little to big
+	 */
+	public I_LimbCursor limbCursor() {
+		return limbCursor(true);
 	}
-	public IntType getType() {
-		return IntType.Long;
+	
+	/**
+	 * @param littleToBig
+	 * @return a cursor over the 64 bit limbs of the magnitude, 
+	 * without the per chunk BigIntegers of {@link #toStream(boolean)}
+	 */
+	public I_LimbCursor limbCursor(boolean littleToBig) {
+		if (delegate == null) {
+			return new LimbCursor(small);
+		}
+		return new LimbCursor(limbed(this), littleToBig);
 	}
-	public boolean isNegative() {
-		if (l < 0) {
-			return true;
+	
+	/**
+	 * Per limb work over large values can be spread over the fork join pool, 
+	 * for example the number of one bits in the magnitude is;
+	 * <pre><code>
+	 * h.toLimbStream(true).map(Long::bitCount).sum();
+	 * </code></pre>
+	 * @param parallel
+	 * @return a sized stream of the unsigned 64 bit limbs of the magnitude, 
+	 * from little to big, which splits evenly for parallel streams.
+	 */
+	public LongStream toLimbStream(boolean parallel) {
+		if (delegate == null) {
+			return small == 0L ? LongStream.empty() : LongStream.of(Math.abs(small));
 		}
-		return false;
+		return limbed(this).toLimbStream(parallel);
 	}
-	public long toLong() {
-		return l;
+	
+	@Override
+	public Stream<BigInteger> toStream() {
+		return toStream(true);
+	}
+	@Override
+	public Stream<BigInteger> toStream(boolean littleToBig) {
+		if (delegate == null) {
+			if (Limbs.CHUNK_BITS < 64 && 64 - Long.numberOfLeadingZeros(Math.abs(small)) > Limbs.CHUNK_BITS) {
+				return limbed(this).toStream(littleToBig);
+			}
+			return Stream.of(BigInteger.valueOf(small).abs());
+		}
+		return delegate.toStream(littleToBig);
 	}
 }
 
+
 class BigIntegerDelegate extends AbstractDelegate {
 	private BigInteger b;
+	private LimbDelegate limbs;
 	
 	public BigIntegerDelegate(BigInteger b) {
 		this.b = b;
 	}
 	public Stream<BigInteger> toStream(boolean littleToBig) {
-		Supplier<BigInteger> s = new Supplier<BigInteger>() {
-			BigInteger big = b.abs();
-			@Override
-			public BigInteger get() {
-				BigInteger t = big;
-				big = null;
-				return t;
-			}
-			
-		};
-		return Stream.generate(s);
+		return Stream.of(b.abs());
 	}
 	public boolean isNegative() {
-		if (b.compareTo(BigInteger.ZERO) <= 0) {
-			return true;
-		}
-		return false;
+		return b.signum() < 0;
 	}
 	public BigInteger toBigInteger() {
 		return b;
 	}
-}
-
-class RamBufferedDelegate extends AbstractDelegate {
-
-	@Override
-	public Stream<BigInteger> toStream(boolean littleToBig) {
-		// TODO Auto-generated method stub
-		return null;
+	public long[] toLimbs() {
+		return limbed().toLimbs();
 	}
-
-
-}
-
-class ExternalBufferedDelegate extends AbstractDelegate {
-
-	@Override
-	public boolean isInRam() {
-		return false;
-	}
-
-	@Override
-	public Stream<BigInteger> toStream(boolean littleToBig) {
-		// TODO Auto-generated method stub
-		return null;
+	/**
+	 * @return a limb view of this value, which is created once 
+	 * so that repeated arithmetic on this value doesn't allocate
+	 */
+	LimbDelegate limbed() {
+		LimbDelegate r = limbs;
+		if (r == null) {
+			r = new LimbDelegate(Limbs.fromBig(b), b.signum() < 0);
+			limbs = r;
+		}
+		return r;
 	}
 }
-
-class AddStream {
-	Iterator<BigInteger> l;
-	Iterator<BigInteger> r;
-	
-	public AddStream(Stream<BigInteger> l, Stream<BigInteger> r) {
-		this.l = l.iterator();
-		this.r = r.iterator();
-	}
-	
-	public Stream<BigInteger> calc() {
-		Supplier<BigInteger> sup = new Supplier<BigInteger>() {
-			BigInteger nl = null;
-			BigInteger nr = null;
-			BigInteger carry = null;
-			
-			@Override
-			public BigInteger get() {
-				//This logic will get complex
-				if (l.hasNext()) {
-					nl = l.next();
-				}
-				if (r.hasNext()) {
-					nr = r.next();
-				}
-				if (nl != null && nr != null) {
-					if (carry != null) {
-						BigInteger ret = nl.add(nr).add(carry);
-						if (ret.compareTo(HugeConstants.MAX_CHUNK) >= 1) {
-							throw new MathException("TODO overflow");
-						}
-						return ret;
-					} else {
-						BigInteger ret = nl.add(nr);
-						if (ret.compareTo(HugeConstants.MAX_CHUNK) >= 1) {
-							throw new MathException("TODO overflow");
-						}
-						return ret;
-					}
-				}
-				return null;
-			}
-		};
-		return Stream.generate(sup);
-
-	}
-	
-}
\ No newline at end of file
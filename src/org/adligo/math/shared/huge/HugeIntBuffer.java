@@ -0,0 +1,445 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+import org.adligo.i_math.shared.IntType;
+import org.adligo.i_math.shared.huge.HugeConstants;
+import org.adligo.i_math.shared.huge.I_HugeInt;
+import org.adligo.i_math.shared.huge.I_HugeIntBuffer;
+
+/**
+ * A mutable I_HugeInt that is the output target of
+ * {@link HugeInt#add(I_HugeInt, I_HugeIntBuffer)}, and can accumulate
+ * values in place.  The limb array is reused and only grows,
+ * so once a buffer is large enough to hold a result, adding into it
+ * doesn't allocate.  This class is NOT thread safe, see {@link HugeIntBufferPool}.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class HugeIntBuffer implements I_HugeInt, I_HugeIntBuffer {
+	public static final String THIS_BUFFER_DOESN_T_FIT_INTO_A_LONG = "This buffer doesn't fit into a long!";
+	public static final String THIS_BUFFER_DOESN_T_FIT_INTO_A_INT = "This buffer doesn't fit into a int!";
+	public static final String THIS_BUFFER_DOESN_T_FIT_INTO_A_SHORT = "This buffer doesn't fit into a short!";
+	public static final String THIS_BUFFER_DOESN_T_FIT_INTO_A_BYTE = "This buffer doesn't fit into a byte!";
+
+	private long [] limbs;
+	private int length;
+	private boolean negative;
+	private final View view = new View();
+
+	/**
+	 * creates a buffer with the value zero
+	 */
+	public HugeIntBuffer() {
+		this(4);
+	}
+
+	/**
+	 * creates a buffer with the value zero
+	 * @param capacity the initial number of 64 bit limbs
+	 */
+	public HugeIntBuffer(int capacity) {
+		limbs = new long[Math.max(1, capacity)];
+	}
+
+	/**
+	 * sets the value to zero
+	 * @return this
+	 */
+	public HugeIntBuffer clear() {
+		length = 0;
+		negative = false;
+		return this;
+	}
+
+	/**
+	 * @param value
+	 * @return this
+	 */
+	public HugeIntBuffer set(long value) {
+		if (value == 0L) {
+			return clear();
+		}
+		limbs[0] = Math.abs(value);
+		length = 1;
+		negative = value < 0;
+		return this;
+	}
+
+	/**
+	 * @param value
+	 * @return this
+	 */
+	public HugeIntBuffer set(I_HugeInt value) {
+		if (value == this) {
+			return this;
+		} else if (value.isLong()) {
+			return set(value.toLong());
+		}
+		AbstractLimbDelegate d = HugeInt.limbed(value);
+		long len = d.limbLength();
+		ensureCapacity(len);
+		for (int i = 0; i < len; i++) {
+			limbs[i] = d.limb(i);
+		}
+		length = (int) len;
+		negative = d.isNegative();
+		return this;
+	}
+
+	/**
+	 * adds the value to this buffer in place
+	 * @param value
+	 * @return this
+	 */
+	public HugeIntBuffer accumulate(long value) {
+		if (value == 0L) {
+			return this;
+		}
+		boolean valueNegative = value < 0;
+		long mag = Math.abs(value);
+		if (length == 0) {
+			return set(value);
+		} else if (valueNegative == negative) {
+			ensureCapacity(length + 1);
+			long x = limbs[0];
+			long s = x + mag;
+			limbs[0] = s;
+			if (Long.compareUnsigned(s, x) < 0) {
+				int i = 1;
+				for (; i < length; i++) {
+					if (++limbs[i] != 0L) {
+						break;
+					}
+				}
+				if (i == length) {
+					limbs[length++] = 1L;
+				}
+			}
+		} else if (length > 1 || Long.compareUnsigned(limbs[0], mag) >= 0) {
+			long x = limbs[0];
+			limbs[0] = x - mag;
+			if (Long.compareUnsigned(x, mag) < 0) {
+				for (int i = 1; i < length; i++) {
+					if (limbs[i]-- != 0L) {
+						break;
+					}
+				}
+			}
+			trim();
+		} else {
+			limbs[0] = mag - limbs[0];
+			negative = valueNegative;
+		}
+		return this;
+	}
+
+	/**
+	 * adds the value to this buffer in place
+	 * @param value
+	 * @return this
+	 */
+	public HugeIntBuffer accumulate(I_HugeInt value) {
+		if (value.isLong()) {
+			return accumulate(value.toLong());
+		}
+		AbstractLimbDelegate d = HugeInt.limbed(value);
+		long olen = d.limbLength();
+		if (olen == 0) {
+			return this;
+		}
+		boolean oNegative = d.isNegative();
+		if (length == 0 || oNegative == negative) {
+			int n = (int) Math.max(length, olen);
+			ensureCapacity(n + 1);
+			long carry = 0;
+			for (int i = 0; i < n; i++) {
+				long x = i < length ? limbs[i] : 0L;
+				long s = x + d.limb(i);
+				long c = Long.compareUnsigned(s, x) < 0 ? 1L : 0L;
+				long s2 = s + carry;
+				if (s2 == 0L && carry == 1L) {
+					c = 1L;
+				}
+				limbs[i] = s2;
+				carry = c;
+			}
+			length = n;
+			if (carry != 0L) {
+				limbs[length++] = carry;
+			}
+			negative = oNegative;
+			return this;
+		}
+		int c = AbstractLimbDelegate.compareMagnitude(view, d);
+		if (c == 0) {
+			return clear();
+		} else if (c > 0) {
+			long borrow = 0;
+			for (int i = 0; i < length; i++) {
+				long x = limbs[i];
+				long y = d.limb(i);
+				limbs[i] = x - y - borrow;
+				borrow = (Long.compareUnsigned(x, y) < 0 || (x == y && borrow == 1L)) ? 1L : 0L;
+			}
+		} else {
+			int n = (int) olen;
+			ensureCapacity(n);
+			long borrow = 0;
+			for (int i = 0; i < n; i++) {
+				long x = d.limb(i);
+				long y = i < length ? limbs[i] : 0L;
+				limbs[i] = x - y - borrow;
+				borrow = (Long.compareUnsigned(x, y) < 0 || (x == y && borrow == 1L)) ? 1L : 0L;
+			}
+			length = n;
+			negative = oNegative;
+		}
+		trim();
+		return this;
+	}
+
+	/**
+	 * @return a immutable copy of the current value
+	 */
+	public HugeInt toHugeInt() {
+		return new HugeInt(this);
+	}
+
+	AbstractLimbDelegate limbed() {
+		return view;
+	}
+
+	private void ensureCapacity(long limbCount) {
+		if (limbCount > limbs.length) {
+			if (limbCount > Integer.MAX_VALUE - 8) {
+				throw new IllegalStateException(HugeInt.THIS_HUGE_INT_DOESN_T_FIT_INTO_A_BIG_INTEGER);
+			}
+			long [] t = new long[(int) Math.min(Integer.MAX_VALUE - 8, Math.max(limbCount, (long) limbs.length << 1))];
+			System.arraycopy(limbs, 0, t, 0, length);
+			limbs = t;
+		}
+	}
+
+	private void trim() {
+		while (length > 0 && limbs[length - 1] == 0L) {
+			length--;
+		}
+		if (length == 0) {
+			negative = false;
+		}
+	}
+
+	@Override
+	public boolean isBig() {
+		long bl = view.bitLength();
+		int max = HugeConstants.MAX_CHUNK.bitLength();
+		if (bl != max) {
+			return bl < max;
+		}
+		return toBig().abs().compareTo(HugeConstants.MAX_CHUNK) <= 0;
+	}
+
+	@Override
+	public I_HugeInt toHuge() {
+		return toHugeInt();
+	}
+
+	@Override
+	public boolean isLong() {
+		if (length == 0) {
+			return true;
+		} else if (length > 1) {
+			return false;
+		}
+		return limbs[0] >= 0 || (negative && limbs[0] == Long.MIN_VALUE);
+	}
+
+	@Override
+	public BigInteger toBig() {
+		return view.toBigInteger();
+	}
+
+	@Override
+	public boolean isInt() {
+		if (!isLong()) {
+			return false;
+		}
+		long l = toLong();
+		return l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE;
+	}
+
+	@Override
+	public long toLong() {
+		if (!isLong()) {
+			throw new IllegalStateException(THIS_BUFFER_DOESN_T_FIT_INTO_A_LONG);
+		} else if (length == 0) {
+			return 0L;
+		}
+		return negative ? -limbs[0] : limbs[0];
+	}
+
+	@Override
+	public boolean isShort() {
+		if (!isLong()) {
+			return false;
+		}
+		long l = toLong();
+		return l >= Short.MIN_VALUE && l <= Short.MAX_VALUE;
+	}
+
+	@Override
+	public int toInt() {
+		if (!isInt()) {
+			throw new IllegalStateException(THIS_BUFFER_DOESN_T_FIT_INTO_A_INT);
+		}
+		return (int) toLong();
+	}
+
+	@Override
+	public boolean isByte() {
+		if (!isLong()) {
+			return false;
+		}
+		long l = toLong();
+		return l >= Byte.MIN_VALUE && l <= Byte.MAX_VALUE;
+	}
+
+	@Override
+	public short toShort() {
+		if (!isShort()) {
+			throw new IllegalStateException(THIS_BUFFER_DOESN_T_FIT_INTO_A_SHORT);
+		}
+		return (short) toLong();
+	}
+
+	@Override
+	public IntType getType() {
+		if (isByte()) {
+			return IntType.Byte;
+		} else if (isShort()) {
+			return IntType.Short;
+		} else if (isInt()) {
+			return IntType.Int;
+		} else if (isLong()) {
+			return IntType.Long;
+		} else if (isBig()) {
+			return IntType.Big;
+		}
+		return IntType.Huge;
+	}
+
+	@Override
+	public byte toByte() {
+		if (!isByte()) {
+			throw new IllegalStateException(THIS_BUFFER_DOESN_T_FIT_INTO_A_BYTE);
+		}
+		return (byte) toLong();
+	}
+
+	/**
+	 * @return a new immutable HugeInt, this buffer is not changed
+	 */
+	@Override
+	public I_HugeInt add(I_HugeInt other) {
+		return toHugeInt().add(other);
+	}
+
+	/**
+	 * @param other
+	 * @param buffer when this is a HugeIntBuffer this + other is written
+	 * into it and it is returned, without allocating
+	 */
+	@Override
+	public I_HugeInt add(I_HugeInt other, I_HugeIntBuffer buffer) {
+		if (buffer instanceof HugeIntBuffer) {
+			HugeIntBuffer b = (HugeIntBuffer) buffer;
+			if (b == this) {
+				return accumulate(other);
+			} else if (b == other) {
+				return b.accumulate(this);
+			}
+			return b.set(this).accumulate(other);
+		}
+		return add(other);
+	}
+
+	@Override
+	public boolean isInRam() {
+		return true;
+	}
+
+	@Override
+	public boolean isPositive() {
+		return !negative;
+	}
+
+	@Override
+	public boolean isGreaterThan(long i) {
+		if (isLong()) {
+			return toLong() > i;
+		}
+		return !negative;
+	}
+
+	@Override
+	public Stream<BigInteger> toStream() {
+		return toStream(true);
+	}
+
+	@Override
+	public Stream<BigInteger> toStream(boolean littleToBig) {
+		return view.toStream(littleToBig);
+	}
+
+	/**
+	 * A limb view of the buffer's current value, which is reused
+	 * by the arithmetic in this package.
+	 */
+	private class View extends AbstractLimbDelegate {
+
+		View() {
+			super(false);
+		}
+
+		@Override
+		long limbLength() {
+			return length;
+		}
+
+		@Override
+		long limb(long index) {
+			if (index >= length) {
+				return 0L;
+			}
+			return limbs[(int) index];
+		}
+
+		@Override
+		public boolean isNegative() {
+			//not the inherited field
+			return HugeIntBuffer.this.negative;
+		}
+	}
+}
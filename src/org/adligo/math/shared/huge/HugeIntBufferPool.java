@@ -0,0 +1,76 @@
+package org.adligo.math.shared.huge;
+
+/**
+ * A per thread pool of {@link HugeIntBuffer}s, so that tight loops can
+ * borrow a output buffer, add into it many times and then release it
+ * for the next loop, without allocating a new buffer each time.
+ * The buffers keep their capacity between borrows.
+ * <pre><code>
+ * HugeIntBufferPool pool = HugeIntBufferPool.local();
+ * HugeIntBuffer sum = pool.borrow();
+ * for (I_HugeInt h : values) {
+ *    sum.accumulate(h);
+ * }
+ * HugeInt r = sum.toHugeInt();
+ * pool.release(sum);
+ * </code></pre>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class HugeIntBufferPool {
+	/**
+	 * the maximum number of idle buffers kept by each pool
+	 */
+	public static final int MAX_IDLE = 16;
+	private static final ThreadLocal<HugeIntBufferPool> LOCAL = ThreadLocal.withInitial(() -> new HugeIntBufferPool());
+
+	/**
+	 * @return the pool for the current thread
+	 */
+	public static HugeIntBufferPool local() {
+		return LOCAL.get();
+	}
+
+	private final HugeIntBuffer [] idle = new HugeIntBuffer[MAX_IDLE];
+	private int size = 0;
+
+	/**
+	 * @return a buffer with the value zero
+	 */
+	public HugeIntBuffer borrow() {
+		if (size == 0) {
+			return new HugeIntBuffer();
+		}
+		HugeIntBuffer r = idle[--size];
+		idle[size] = null;
+		return r.clear();
+	}
+
+	/**
+	 * @param buffer a buffer which the caller will no longer use
+	 */
+	public void release(HugeIntBuffer buffer) {
+		if (size < idle.length) {
+			idle[size++] = buffer;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package org.adligo.math.shared.huge;
+
+/**
+ * A primitive cursor over the magnitude of a HugeInt, one 64 bit 
+ * limb at a time, with no boxing and no BigInteger per limb.
+ * Limbs are unsigned (see {@link Long#compareUnsigned(long, long)}).
+ * A cursor is used once, and ends after the last limb.
+ *
+ * 
+ * @author scott<br/>
+ *         <br/>
+ * 
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public interface I_LimbCursor {
+
+	/**
+	 * @return true if there is another limb
+	 */
+	boolean hasNext();
+	
+	/**
+	 * @return the next limb
+	 * @throws java.util.NoSuchElementException when there are no more limbs
+	 */
+	long next();
+}
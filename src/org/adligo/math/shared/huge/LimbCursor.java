@@ -0,0 +1,71 @@
+package org.adligo.math.shared.huge;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A I_LimbCursor over a value that fits in a long, or a 
+ * AbstractLimbDelegate, in either direction.
+ *
+ * 
+ * @author scott<br/>
+ *         <br/>
+ * 
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+class LimbCursor implements I_LimbCursor {
+	private final AbstractLimbDelegate delegate;
+	private final long single;
+	private final boolean littleToBig;
+	private final long length;
+	private long count = 0;
+	
+	/**
+	 * @param l the magnitude of l is the single limb
+	 */
+	LimbCursor(long l) {
+		this.delegate = null;
+		this.single = Math.abs(l);
+		this.littleToBig = true;
+		this.length = l == 0L ? 0 : 1;
+	}
+	
+	LimbCursor(AbstractLimbDelegate delegate, boolean littleToBig) {
+		this.delegate = delegate;
+		this.single = 0L;
+		this.littleToBig = littleToBig;
+		this.length = delegate.limbLength();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return count < length;
+	}
+
+	@Override
+	public long next() {
+		if (count >= length) {
+			throw new NoSuchElementException();
+		}
+		long i = count++;
+		if (delegate == null) {
+			return single;
+		}
+		return delegate.limb(littleToBig ? i : length - 1 - i);
+	}
+}
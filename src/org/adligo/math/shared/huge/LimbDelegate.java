@@ -0,0 +1,75 @@
+package org.adligo.math.shared.huge;
+
+/**
+ * Holds values in RAM as a packed array of long limbs.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+class LimbDelegate extends AbstractLimbDelegate {
+	private final long [] mag;
+	/**
+	 * computed on the first call, -1 until then
+	 */
+	private long lowestLimb = -1;
+	private long bitCount = -1;
+	
+	public LimbDelegate(long [] mag, boolean negative) {
+		super(negative);
+		this.mag = mag;
+	}
+	
+	@Override
+	long lowestLimb() {
+		long r = lowestLimb;
+		if (r == -1) {
+			r = super.lowestLimb();
+			lowestLimb = r;
+		}
+		return r;
+	}
+	
+	@Override
+	long magnitudeBitCount() {
+		long r = bitCount;
+		if (r == -1) {
+			r = super.magnitudeBitCount();
+			bitCount = r;
+		}
+		return r;
+	}
+	
+	long limbLength() {
+		return mag.length;
+	}
+	
+	long limb(long index) {
+		if (index >= mag.length) {
+			return 0L;
+		}
+		return mag[(int) index];
+	}
+	
+	public long[] toLimbs() {
+		return mag;
+	}
+}
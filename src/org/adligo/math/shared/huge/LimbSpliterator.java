@@ -0,0 +1,94 @@
+package org.adligo.math.shared.huge;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * A sized Spliterator over a range of the limbs of a AbstractLimbDelegate,
+ * from little to big, which splits in half so that parallel streams 
+ * can spread per limb work over the fork join pool.
+ *
+ * 
+ * @author scott<br/>
+ *         <br/>
+ * 
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+class LimbSpliterator implements Spliterator.OfLong {
+	/**
+	 * ranges smaller than this are not split
+	 */
+	static final long MIN_SPLIT = 1 << 10;
+	static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED 
+			| Spliterator.NONNULL | Spliterator.IMMUTABLE;
+	private final AbstractLimbDelegate delegate;
+	private long from;
+	private final long to;
+	
+	/**
+	 * @param delegate
+	 * @param from inclusive
+	 * @param to exclusive
+	 */
+	LimbSpliterator(AbstractLimbDelegate delegate, long from, long to) {
+		this.delegate = delegate;
+		this.from = from;
+		this.to = to;
+	}
+
+	@Override
+	public boolean tryAdvance(LongConsumer action) {
+		if (from < to) {
+			action.accept(delegate.limb(from++));
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void forEachRemaining(LongConsumer action) {
+		long end = to;
+		for (long i = from; i < end; i++) {
+			action.accept(delegate.limb(i));
+		}
+		from = end;
+	}
+
+	@Override
+	public Spliterator.OfLong trySplit() {
+		long size = to - from;
+		if (size < MIN_SPLIT) {
+			return null;
+		}
+		long mid = from + (size >>> 1);
+		LimbSpliterator r = new LimbSpliterator(delegate, from, mid);
+		from = mid;
+		return r;
+	}
+
+	@Override
+	public long estimateSize() {
+		return to - from;
+	}
+
+	@Override
+	public int characteristics() {
+		return CHARACTERISTICS;
+	}
+}
@@ -0,0 +1,336 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+
+import org.adligo.i_math.shared.huge.HugeConstants;
+
+/**
+ * Static arithmetic on unsigned magnitudes stored as little endian
+ * long limb arrays (limb 0 is the least significant 64 bits).
+ * Arrays passed in and returned from this class are normalized,
+ * meaning the most significant limb is never zero, and zero
+ * is the empty array.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class Limbs {
+	static final long[] EMPTY = new long[0];
+	/**
+	 * the number of bits in each chunk of a HugeInt stream
+	 */
+	static final int CHUNK_BITS = HugeConstants.MAX_CHUNK_BYTES * 8;
+
+	private Limbs() {}
+
+	/**
+	 * @param b
+	 * @return the magnitude of b as limbs
+	 */
+	static long[] fromBig(BigInteger b) {
+		if (b.signum() == 0) {
+			return EMPTY;
+		}
+		byte [] bytes = b.abs().toByteArray();
+		int start = 0;
+		while (start < bytes.length && bytes[start] == 0) {
+			start++;
+		}
+		int byteLen = bytes.length - start;
+		long [] r = new long[(byteLen + 7) >>> 3];
+		for (int i = 0; i < byteLen; i++) {
+			long v = bytes[bytes.length - 1 - i] & 0xFFL;
+			r[i >>> 3] |= v << ((i & 7) << 3);
+		}
+		return r;
+	}
+
+	/**
+	 * @param mag
+	 * @param negative
+	 * @return a BigInteger with the magnitude mag
+	 */
+	static BigInteger toBig(long [] mag, boolean negative) {
+		if (mag.length == 0) {
+			return BigInteger.ZERO;
+		}
+		byte [] bytes = new byte[mag.length << 3];
+		int last = bytes.length - 1;
+		for (int i = 0; i < mag.length; i++) {
+			long v = mag[i];
+			for (int j = 0; j < 8; j++) {
+				bytes[last - (i << 3) - j] = (byte) (v >>> (j << 3));
+			}
+		}
+		return new BigInteger(negative ? -1 : 1, bytes);
+	}
+
+	/**
+	 * @param l
+	 * @return the magnitude of l as limbs
+	 */
+	static long[] fromLong(long l) {
+		if (l == 0L) {
+			return EMPTY;
+		}
+		//note Math.abs(Long.MIN_VALUE) is still the correct unsigned magnitude
+		return new long[] {Math.abs(l)};
+	}
+
+	/**
+	 * @param l a unsigned value
+	 * @return l as limbs
+	 */
+	static long[] fromUnsigned(long l) {
+		if (l == 0L) {
+			return EMPTY;
+		}
+		return new long[] {l};
+	}
+
+	/**
+	 * @param mag
+	 * @param len
+	 * @return a normalized copy or mag itself, if it was already normalized
+	 */
+	static long[] normalize(long [] mag, int len) {
+		while (len > 0 && mag[len - 1] == 0L) {
+			len--;
+		}
+		if (len == mag.length) {
+			return mag;
+		}
+		if (len == 0) {
+			return EMPTY;
+		}
+		long [] r = new long[len];
+		System.arraycopy(mag, 0, r, 0, len);
+		return r;
+	}
+
+	static long bitLength(long [] mag) {
+		if (mag.length == 0) {
+			return 0;
+		}
+		return ((long) mag.length << 6) - Long.numberOfLeadingZeros(mag[mag.length - 1]);
+	}
+
+	/**
+	 * @param a
+	 * @param b
+	 * @return -1, 0 or 1 as the magnitude of a is less than, equal to or greater than b
+	 */
+	static int compare(long [] a, long [] b) {
+		if (a.length != b.length) {
+			return a.length < b.length ? -1 : 1;
+		}
+		for (int i = a.length - 1; i >= 0; i--) {
+			if (a[i] != b[i]) {
+				return Long.compareUnsigned(a[i], b[i]) < 0 ? -1 : 1;
+			}
+		}
+		return 0;
+	}
+
+	static long[] add(long [] a, long [] b) {
+		if (a.length < b.length) {
+			long [] t = a;
+			a = b;
+			b = t;
+		}
+		long [] r = new long[a.length + 1];
+		long carry = 0;
+		int i = 0;
+		for (; i < b.length; i++) {
+			long x = a[i];
+			long s = x + b[i];
+			long c = Long.compareUnsigned(s, x) < 0 ? 1L : 0L;
+			long s2 = s + carry;
+			if (s2 == 0L && carry == 1L) {
+				c = 1L;
+			}
+			r[i] = s2;
+			carry = c;
+		}
+		for (; i < a.length; i++) {
+			long s = a[i] + carry;
+			carry = (carry == 1L && s == 0L) ? 1L : 0L;
+			r[i] = s;
+		}
+		r[i] = carry;
+		return normalize(r, r.length);
+	}
+
+	/**
+	 * @param big must have a magnitude greater than or equal to little
+	 * @param little
+	 * @return big - little
+	 */
+	static long[] subtract(long [] big, long [] little) {
+		long [] r = new long[big.length];
+		long borrow = 0;
+		int i = 0;
+		for (; i < little.length; i++) {
+			long x = big[i];
+			long y = little[i];
+			long d = x - y - borrow;
+			borrow = (Long.compareUnsigned(x, y) < 0 || (x == y && borrow == 1L)) ? 1L : 0L;
+			r[i] = d;
+		}
+		for (; i < big.length; i++) {
+			long x = big[i];
+			r[i] = x - borrow;
+			borrow = (x == 0L && borrow == 1L) ? 1L : 0L;
+		}
+		return normalize(r, r.length);
+	}
+
+	/**
+	 * @param mag
+	 * @param bits
+	 * @return mag * 2^bits
+	 */
+	static long[] shiftLeft(long [] mag, long bits) {
+		if (mag.length == 0 || bits == 0) {
+			return mag;
+		}
+		int w = (int) (bits >>> 6);
+		int s = (int) (bits & 63);
+		long [] r = new long[mag.length + w + 1];
+		if (s == 0) {
+			System.arraycopy(mag, 0, r, w, mag.length);
+		} else {
+			long prior = 0L;
+			for (int i = 0; i < mag.length; i++) {
+				r[i + w] = (mag[i] << s) | (prior >>> (64 - s));
+				prior = mag[i];
+			}
+			r[mag.length + w] = prior >>> (64 - s);
+		}
+		return normalize(r, r.length);
+	}
+
+	/**
+	 * @param mag
+	 * @param bits
+	 * @return mag / 2^bits, rounded toward zero
+	 */
+	static long[] shiftRight(long [] mag, long bits) {
+		if (bits == 0) {
+			return mag;
+		}
+		long w = bits >>> 6;
+		if (w >= mag.length) {
+			return EMPTY;
+		}
+		long [] r = new long[mag.length - (int) w];
+		for (int i = 0; i < r.length; i++) {
+			r[i] = getBits(mag, bits + ((long) i << 6));
+		}
+		return normalize(r, r.length);
+	}
+
+	/**
+	 * @param mag
+	 * @param bitOffset
+	 * @return the 64 bits of mag starting at the bitOffset,
+	 *   with zeros past the end of mag
+	 */
+	static long getBits(long [] mag, long bitOffset) {
+		long w = bitOffset >>> 6;
+		int s = (int) (bitOffset & 63);
+		if (w >= mag.length) {
+			return 0L;
+		}
+		long r = mag[(int) w] >>> s;
+		if (s != 0 && w + 1 < mag.length) {
+			r |= mag[(int) w + 1] << (64 - s);
+		}
+		return r;
+	}
+
+	/**
+	 * @param mag
+	 * @return true when the magnitude fits into a single chunk
+	 */
+	static boolean fitsChunk(long [] mag) {
+		long bl = bitLength(mag);
+		int max = HugeConstants.MAX_CHUNK.bitLength();
+		if (bl != max) {
+			return bl < max;
+		}
+		return toBig(mag, false).compareTo(HugeConstants.MAX_CHUNK) <= 0;
+	}
+
+	/**
+	 * Accumulates chunks from little to big into a growing limb array.
+	 */
+	static class Builder {
+		private long [] limbs = new long[4];
+		private long chunks = 0;
+
+		/**
+		 * @param chunk the next more significant chunk
+		 */
+		void add(BigInteger chunk) {
+			long [] c = fromBig(chunk);
+			long bitOffset = chunks++ * CHUNK_BITS;
+			int w = (int) (bitOffset >>> 6);
+			int s = (int) (bitOffset & 63);
+			int need = w + c.length + 2;
+			if (need > limbs.length) {
+				long [] t = new long[Math.max(need, limbs.length << 1)];
+				System.arraycopy(limbs, 0, t, 0, limbs.length);
+				limbs = t;
+			}
+			long carry = 0;
+			int i = 0;
+			for (; i <= c.length; i++) {
+				long v = i < c.length ? c[i] << s : 0L;
+				if (s != 0 && i > 0) {
+					v |= c[i - 1] >>> (64 - s);
+				}
+				long x = limbs[w + i];
+				long sum = x + v;
+				long nc = Long.compareUnsigned(sum, x) < 0 ? 1L : 0L;
+				long sum2 = sum + carry;
+				if (sum2 == 0L && carry == 1L) {
+					nc = 1L;
+				}
+				limbs[w + i] = sum2;
+				carry = nc;
+			}
+			for (int j = w + i; carry != 0L && j < limbs.length; j++) {
+				limbs[j] += 1L;
+				carry = limbs[j] == 0L ? 1L : 0L;
+			}
+		}
+
+		long getChunks() {
+			return chunks;
+		}
+
+		long[] toLimbs() {
+			return normalize(limbs, limbs.length);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package org.adligo.math.shared.huge;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the limbs in memory mapped segments of a file.
+ * Each segment is mapped through it's own short lived channel, 
+ * since a mapping stays valid after it's channel is closed, 
+ * so a store never holds a file descriptor.<br/>
+ * Temporary files are deleted when the store is closed or garbage 
+ * collected, or by a single shutdown hook for the files of the stores
+ * that are still reachable when the jvm exits. The disk space is freed 
+ * once the mapped segments are garbage collected.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+class MappedLimbs extends BufferLimbs {
+	private static final Cleaner CLEANER = Cleaner.create();
+	/**
+	 * the files of the temporary stores that haven't been deleted yet
+	 */
+	private static final Set<File> TEMP_FILES = ConcurrentHashMap.newKeySet();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			for (File file : TEMP_FILES) {
+				file.delete();
+			}
+		}));
+	}
+
+	private final File file;
+	/**
+	 * deletes a temporary file, or null when the file belongs to the caller
+	 */
+	private final Cleaner.Cleanable cleanable;
+
+	/**
+	 * @return a store backed by a new temporary file, that is deleted when the store 
+	 *   is closed or garbage collected
+	 */
+	static MappedLimbs newTemp() {
+		return new MappedLimbs(newTempFile("hugeInt"), true);
+	}
+
+	/**
+	 * @param prefix
+	 * @return a new temporary file, which is deleted when the jvm exits 
+	 *   unless it's deleted by a {@link #deleteWhenUnreachable(Object, File)} first
+	 */
+	static File newTempFile(String prefix) {
+		try {
+			File file = File.createTempFile(prefix, ".limbs");
+			TEMP_FILES.add(file);
+			return file;
+		} catch (IOException x) {
+			throw new UncheckedIOException(x);
+		}
+	}
+
+	/**
+	 * @param owner
+	 * @param file a file from {@link #newTempFile(String)}
+	 * @return deletes the file when it's cleaned, or once the owner is unreachable
+	 */
+	static Cleaner.Cleanable deleteWhenUnreachable(Object owner, File file) {
+		return CLEANER.register(owner, new Delete(file));
+	}
+
+	/**
+	 * maps the bytes through a channel that is closed right away, 
+	 * the file grows to fit them
+	 * @param file
+	 * @param position
+	 * @param bytes
+	 * @return a read write mapping of the bytes 
+	 */
+	static ByteBuffer map(File file, long position, int bytes) {
+		try (FileChannel channel = FileChannel.open(file.toPath(), 
+				StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			return channel.map(FileChannel.MapMode.READ_WRITE, position, bytes);
+		} catch (IOException x) {
+			throw new UncheckedIOException(x);
+		}
+	}
+
+	/**
+	 * @param file created or truncated, and left in place when the store is closed
+	 */
+	MappedLimbs(File file) {
+		this(file, false);
+	}
+
+	private MappedLimbs(File file, boolean temp) {
+		this.file = file;
+		if (temp) {
+			cleanable = deleteWhenUnreachable(this, file);
+		} else {
+			cleanable = null;
+		}
+		try {
+			FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING).close();
+		} catch (IOException x) {
+			close();
+			throw new UncheckedIOException(x);
+		}
+	}
+
+	/**
+	 * maps the whole segment, the file grows as segments are mapped
+	 */
+	@Override
+	protected ByteBuffer allocate(int segment, int bytes) {
+		return map(file, (long) segment * SEGMENT_BYTES, SEGMENT_BYTES);
+	}
+
+	/**
+	 * deletes a temporary file now, instead of when the store is garbage collected
+	 */
+	@Override
+	protected void release() {
+		if (cleanable != null) {
+			cleanable.clean();
+		}
+	}
+
+	@Override
+	AbstractLimbDelegate toDelegate(boolean negative) {
+		return new ExternalBufferedDelegate(this, negative);
+	}
+
+	/**
+	 * must not reference the store, or it would never become unreachable
+	 */
+	private static class Delete implements Runnable {
+		private final File file;
+
+		Delete(File file) {
+			this.file = file;
+		}
+
+		@Override
+		public void run() {
+			file.delete();
+			TEMP_FILES.remove(file);
+		}
+	}
+}
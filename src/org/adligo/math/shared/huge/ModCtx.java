@@ -0,0 +1,175 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.adligo.i_math.shared.I_MathCtx;
+import org.adligo.i_math.shared.huge.I_HugeInt;
+
+/**
+ * Modular arithmetic for a single modulus, with the Montgomery (odd moduli)
+ * or Barrett (even moduli) constants computed once when this is created, 
+ * so that repeated products and powers don't need a full division.
+ * Instances are immutable and thread safe, see MathCtx#getModCtx 
+ * for a cache of them.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class ModCtx {
+	private final BigInteger modulus;
+	private final Reducer reducer;
+	
+	/**
+	 * @param modulus a positive modulus
+	 */
+	public ModCtx(BigInteger modulus) {
+		if (modulus.signum() <= 0) {
+			throw new IllegalArgumentException(HugeInt.THE_MODULUS_MUST_BE_POSITIVE);
+		}
+		this.modulus = modulus;
+		reducer = Reducer.newReducer(Limbs.fromBig(modulus));
+	}
+	
+	/**
+	 * @param modulus a positive modulus
+	 */
+	public ModCtx(I_HugeInt modulus) {
+		this(modulus.toBig());
+	}
+	
+	public BigInteger getModulus() {
+		return modulus;
+	}
+	
+	/**
+	 * @return true when this uses Montgomery reduction, false for Barrett
+	 */
+	public boolean isMontgomery() {
+		return reducer instanceof MontgomeryReducer;
+	}
+	
+	/**
+	 * @param a
+	 * @return a mod the modulus, from zero to modulus - 1
+	 */
+	public BigInteger mod(BigInteger a) {
+		return Limbs.toBig(mod(Limbs.fromBig(a), a.signum() < 0), false);
+	}
+	
+	/**
+	 * @param a
+	 * @param b
+	 * @return a * b mod the modulus
+	 */
+	public BigInteger multiply(BigInteger a, BigInteger b) {
+		long [] x = mod(Limbs.fromBig(a), a.signum() < 0);
+		long [] y = mod(Limbs.fromBig(b), b.signum() < 0);
+		return Limbs.toBig(reducer.modMultiply(x, y), false);
+	}
+	
+	/**
+	 * @param a
+	 * @return a * a mod the modulus
+	 */
+	public BigInteger square(BigInteger a) {
+		long [] x = mod(Limbs.fromBig(a), a.signum() < 0);
+		return Limbs.toBig(reducer.modMultiply(x, x), false);
+	}
+	
+	/**
+	 * @param base
+	 * @param exponent a negative exponent uses the inverse of the base,
+	 *   like BigInteger#modPow
+	 * @return base^exponent mod the modulus
+	 */
+	public BigInteger pow(BigInteger base, BigInteger exponent) {
+		if (exponent.signum() < 0) {
+			base = base.modInverse(modulus);
+			exponent = exponent.negate();
+		}
+		long [] x = mod(Limbs.fromBig(base), base.signum() < 0);
+		long [] e = Limbs.fromBig(exponent);
+		return Limbs.toBig(ModPow.modPow(x, new LimbDelegate(e, false), reducer), false);
+	}
+	
+	/**
+	 * Inverts all of the values with one egcd per batch, see {@link BatchInverse}.
+	 * @param values
+	 * @param ctx supplies the egcd
+	 * @return the inverse of each value, from zero to modulus - 1,
+	 * or null for each value that is a zero divisor (shares a factor with the modulus)
+	 */
+	public BigInteger[] inverse(BigInteger[] values, I_MathCtx ctx) {
+		if (BigInteger.ONE.equals(modulus)) {
+			//like BigInteger.modInverse, zero is the inverse of everything mod one
+			BigInteger[] r = new BigInteger[values.length];
+			Arrays.fill(r, BigInteger.ZERO);
+			return r;
+		}
+		return BatchInverse.modInverse(ctx, reducer, values);
+	}
+	
+	/**
+	 * @param a
+	 * @return a mod the modulus, from zero to modulus - 1
+	 */
+	public HugeInt mod(I_HugeInt a) {
+		AbstractLimbDelegate d = HugeInt.limbed(a);
+		return HugeInt.valueOf(mod(d.toLimbs(), d.isNegative()), false);
+	}
+	
+	/**
+	 * @param a
+	 * @param b
+	 * @return a * b mod the modulus
+	 */
+	public HugeInt multiply(I_HugeInt a, I_HugeInt b) {
+		AbstractLimbDelegate da = HugeInt.limbed(a);
+		AbstractLimbDelegate db = HugeInt.limbed(b);
+		long [] x = mod(da.toLimbs(), da.isNegative());
+		long [] y = mod(db.toLimbs(), db.isNegative());
+		return HugeInt.valueOf(reducer.modMultiply(x, y), false);
+	}
+	
+	/**
+	 * @param base
+	 * @param exponent a non negative exponent, which may be off heap or mapped
+	 * @return base^exponent mod the modulus
+	 */
+	public HugeInt pow(I_HugeInt base, I_HugeInt exponent) {
+		if (!exponent.isPositive()) {
+			throw new IllegalArgumentException(HugeInt.THE_EXPONENT_MUST_NOT_BE_NEGATIVE);
+		}
+		AbstractLimbDelegate d = HugeInt.limbed(base);
+		long [] x = mod(d.toLimbs(), d.isNegative());
+		return HugeInt.valueOf(ModPow.modPow(x, HugeInt.limbed(exponent), reducer), false);
+	}
+	
+	private long[] mod(long [] mag, boolean negative) {
+		long [] r = reducer.mod(mag);
+		if (negative && r.length != 0) {
+			return Limbs.subtract(reducer.getModulus(), r);
+		}
+		return r;
+	}
+}
@@ -0,0 +1,106 @@
+package org.adligo.math.shared.huge;
+
+/**
+ * Static sliding window modular exponentiation of limb magnitudes 
+ * (see {@link Limbs}), the window width grows with the bit length of the exponent 
+ * (the same table as java.math.BigInteger).  The exponent is read a bit at a time 
+ * from it's delegate, so it may be off heap or mapped.  Products are reduced
+ * with a precomputed {@link Reducer}, Montgomery for odd moduli and Barrett otherwise.
+ *
+ * 
+ * @author scott<br/>
+ *         <br/>
+ * 
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class ModPow {
+	/**
+	 * the largest exponent bit length for each window width, starting at 1
+	 */
+	private static final long [] WINDOW_BITS = {7, 25, 81, 241, 673, 1793, Long.MAX_VALUE};
+	private static final long [] ONE = new long[] {1L};
+	
+	private ModPow() {}
+	
+	/**
+	 * @param base a normalized magnitude less than m
+	 * @param exponent a non negative exponent
+	 * @param m a normalized magnitude greater than one
+	 * @return the normalized magnitude of base^exponent mod m
+	 */
+	static long[] modPow(long [] base, AbstractLimbDelegate exponent, long [] m) {
+		return modPow(base, exponent, Reducer.newReducer(m));
+	}
+	
+	/**
+	 * @param base a normalized magnitude less than the reducer's modulus
+	 * @param exponent a non negative exponent
+	 * @param reducer 
+	 * @return the normalized magnitude of base^exponent mod m
+	 */
+	static long[] modPow(long [] base, AbstractLimbDelegate exponent, Reducer reducer) {
+		long bits = exponent.bitLength();
+		if (bits == 0) {
+			return Limbs.compare(reducer.getModulus(), ONE) == 0 ? Limbs.EMPTY : ONE;
+		}
+		base = reducer.toForm(base);
+		int k = 1;
+		while (bits > WINDOW_BITS[k - 1]) {
+			k++;
+		}
+		long [][] odd = new long[1 << (k - 1)][];
+		odd[0] = base;
+		if (odd.length > 1) {
+			long [] b2 = reducer.square(base);
+			for (int i = 1; i < odd.length; i++) {
+				odd[i] = reducer.multiply(odd[i - 1], b2);
+			}
+		}
+		long [] r = null;
+		long i = bits - 1;
+		while (i >= 0) {
+			if (!testBit(exponent, i)) {
+				if (r != null) {
+					r = reducer.square(r);
+				}
+				i--;
+				continue;
+			}
+			long l = Math.max(i - k + 1, 0);
+			while (!testBit(exponent, l)) {
+				l++;
+			}
+			int w = 0;
+			for (long j = i; j >= l; j--) {
+				w = (w << 1) | (testBit(exponent, j) ? 1 : 0);
+				if (r != null) {
+					r = reducer.square(r);
+				}
+			}
+			long [] g = odd[w >>> 1];
+			r = r == null ? g : reducer.multiply(r, g);
+			i = l - 1;
+		}
+		return reducer.fromForm(r);
+	}
+	
+	static boolean testBit(AbstractLimbDelegate d, long bit) {
+		return ((d.limb(bit >>> 6) >>> (bit & 63)) & 1L) != 0L;
+	}
+}
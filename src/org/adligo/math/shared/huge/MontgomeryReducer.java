@@ -0,0 +1,223 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Montgomery reduction for odd moduli with R = B^n, where n is the 
+ * number of limbs in the modulus.  Small moduli reduce a word at a time, 
+ * large ones with two {@link Multiply} products, so they are subquadratic.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+class MontgomeryReducer extends Reducer {
+	/**
+	 * the number of limbs in the modulus where REDC switches to multiplication
+	 */
+	static final int MULTIPLY_LIMBS = 2 * Multiply.KARATSUBA_LIMBS;
+	private final int n;
+	/**
+	 * -m^-1 mod 2^64
+	 */
+	private final long mInverse;
+	/**
+	 * -m^-1 mod R, only for large moduli
+	 */
+	private final long [] mPrime;
+	/**
+	 * R^2 mod m
+	 */
+	private final long [] r2;
+	private final long [] one;
+	
+	MontgomeryReducer(long [] m) {
+		super(m);
+		n = m.length;
+		long inv = m[0];
+		for (int i = 0; i < 5; i++) {
+			inv *= 2L - m[0] * inv;
+		}
+		mInverse = -inv;
+		if (n >= MULTIPLY_LIMBS) {
+			BigInteger r = BigInteger.ONE.shiftLeft(n << 6);
+			BigInteger mi = Limbs.toBig(m, false).modInverse(r);
+			mPrime = Limbs.fromBig(r.subtract(mi));
+		} else {
+			mPrime = null;
+		}
+		long [] rr = new long[(n << 1) + 1];
+		rr[n << 1] = 1L;
+		r2 = Divide.remainder(rr, m);
+		long [] rOne = new long[n + 1];
+		rOne[n] = 1L;
+		one = Divide.remainder(rOne, m);
+	}
+	
+	/**
+	 * two REDCs instead of a division, when x is less than m * R
+	 */
+	@Override
+	long[] mod(long [] x) {
+		if (x.length >= (n << 1)) {
+			return super.mod(x);
+		}
+		return redc(Multiply.multiply(redc(x), r2));
+	}
+	
+	@Override
+	long[] modMultiply(long [] a, long [] b) {
+		return mod(Multiply.multiply(a, b));
+	}
+	
+	@Override
+	long[] toForm(long [] x) {
+		return redc(Multiply.multiply(x, r2));
+	}
+	
+	@Override
+	long[] fromForm(long [] x) {
+		return redc(x);
+	}
+	
+	@Override
+	long[] multiply(long [] a, long [] b) {
+		if (mPrime == null) {
+			return cios(a, b);
+		}
+		return redc(Multiply.multiply(a, b));
+	}
+	
+	/**
+	 * the coarsely integrated operand scanning Montgomery product,
+	 * which interleaves the product and REDC a limb of b at a time,
+	 * so that no double length product is allocated
+	 * @return a * b / R mod m
+	 */
+	private long[] cios(long [] a, long [] b) {
+		if (a.length < n) {
+			a = Arrays.copyOf(a, n);
+		}
+		long [] t = new long[n + 2];
+		for (int i = 0; i < n; i++) {
+			long y = i < b.length ? b[i] : 0L;
+			long carry = 0L;
+			for (int j = 0; j < n; j++) {
+				long x = a[j];
+				long lo = x * y;
+				long hi = Math.unsignedMultiplyHigh(x, y);
+				long s = t[j] + lo;
+				if (Long.compareUnsigned(s, lo) < 0) {
+					hi++;
+				}
+				long s2 = s + carry;
+				if (Long.compareUnsigned(s2, carry) < 0) {
+					hi++;
+				}
+				t[j] = s2;
+				carry = hi;
+			}
+			long s = t[n] + carry;
+			t[n + 1] += Long.compareUnsigned(s, carry) < 0 ? 1L : 0L;
+			t[n] = s;
+			
+			long u = t[0] * mInverse;
+			carry = Math.unsignedMultiplyHigh(u, m[0]);
+			long lo0 = u * m[0];
+			if (Long.compareUnsigned(t[0] + lo0, lo0) < 0) {
+				carry++;
+			}
+			for (int j = 1; j < n; j++) {
+				long lo = u * m[j];
+				long hi = Math.unsignedMultiplyHigh(u, m[j]);
+				long s1 = t[j] + lo;
+				if (Long.compareUnsigned(s1, lo) < 0) {
+					hi++;
+				}
+				long s2 = s1 + carry;
+				if (Long.compareUnsigned(s2, carry) < 0) {
+					hi++;
+				}
+				t[j - 1] = s2;
+				carry = hi;
+			}
+			s = t[n] + carry;
+			t[n + 1] += Long.compareUnsigned(s, carry) < 0 ? 1L : 0L;
+			t[n - 1] = s;
+			t[n] = t[n + 1];
+			t[n + 1] = 0L;
+		}
+		long [] r = Limbs.normalize(t, n + 1);
+		if (Limbs.compare(r, m) >= 0) {
+			r = Limbs.subtract(r, m);
+		}
+		return r;
+	}
+	
+	@Override
+	long[] one() {
+		return one;
+	}
+	
+	/**
+	 * @param t less than m * R
+	 * @return t / R mod m
+	 */
+	long[] redc(long [] t) {
+		long [] r;
+		if (mPrime != null) {
+			long [] u = Multiply.slice(Multiply.multiply(Multiply.slice(t, 0, n), mPrime), 0, n);
+			r = Multiply.slice(Limbs.add(t, Multiply.multiply(u, m)), n, Integer.MAX_VALUE);
+		} else {
+			long [] a = new long[(n << 1) + 1];
+			System.arraycopy(t, 0, a, 0, t.length);
+			for (int i = 0; i < n; i++) {
+				long u = a[i] * mInverse;
+				long carry = 0L;
+				for (int j = 0; j < n; j++) {
+					long lo = u * m[j];
+					long hi = Math.unsignedMultiplyHigh(u, m[j]);
+					long s = a[i + j] + lo;
+					if (Long.compareUnsigned(s, lo) < 0) {
+						hi++;
+					}
+					long s2 = s + carry;
+					if (Long.compareUnsigned(s2, carry) < 0) {
+						hi++;
+					}
+					a[i + j] = s2;
+					carry = hi;
+				}
+				for (int k = i + n; carry != 0L && k < a.length; k++) {
+					long s = a[k] + carry;
+					carry = Long.compareUnsigned(s, carry) < 0 ? 1L : 0L;
+					a[k] = s;
+				}
+			}
+			r = Multiply.slice(a, n, a.length);
+		}
+		if (Limbs.compare(r, m) >= 0) {
+			r = Limbs.subtract(r, m);
+		}
+		return r;
+	}
+}
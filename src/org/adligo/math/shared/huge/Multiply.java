@@ -0,0 +1,537 @@
+package org.adligo.math.shared.huge;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Static multiplication of limb magnitudes (see {@link Limbs}), 
+ * which picks schoolbook, Karatsuba, Toom-3 or transforms ({@link Ntt}) by operand size, 
+ * and runs the sub products of large operands as fork join tasks.
+ * Very unbalanced operands are multiplied in pieces the size of the
+ * smaller operand.
+ *
+ * 
+ * @author scott<br/>
+ *         <br/>
+ * 
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class Multiply {
+	/**
+	 * the number of limbs in the smaller operand where Karatsuba starts
+	 */
+	static final int KARATSUBA_LIMBS = 40;
+	/**
+	 * the number of limbs in the smaller operand where Toom-3 starts
+	 */
+	static final int TOOM3_LIMBS = 120;
+	/**
+	 * the number of limbs in the larger operand of a sub product 
+	 * where it is forked onto the fork join pool
+	 */
+	static final int PARALLEL_LIMBS = 1 << 10;
+	/**
+	 * the number of limbs in a block of a off heap or mapped operand, 
+	 * that is copied onto the heap at a time by {@link #multiply(AbstractLimbDelegate, long[], BufferLimbs)}
+	 */
+	static final int STREAM_LIMBS = 1 << 14;
+	
+	private Multiply() {}
+	
+	/**
+	 * @param a a normalized magnitude
+	 * @param b a normalized magnitude
+	 * @return the normalized magnitude of a * b
+	 */
+	static long[] multiply(long [] a, long [] b) {
+		boolean parallel = Math.min(a.length, b.length) >= KARATSUBA_LIMBS 
+				&& Math.max(a.length, b.length) >= PARALLEL_LIMBS
+				&& Runtime.getRuntime().availableProcessors() > 1;
+		if (parallel && !ForkJoinTask.inForkJoinPool()) {
+			return ForkJoinPool.commonPool().invoke(new MultiplyTask(a, b));
+		}
+		return multiply(a, b, parallel);
+	}
+	
+	/**
+	 * multiplies by blocks of max({@link #STREAM_LIMBS}, b.length) limbs of a, 
+	 * adding each product into out, so only a block of a, b and their 
+	 * product are on the heap at a time
+	 * @param a a magnitude, which is usually off heap or mapped
+	 * @param b a normalized magnitude
+	 * @param out a empty store for the magnitude of a * b
+	 */
+	static void multiply(AbstractLimbDelegate a, long [] b, BufferLimbs out) {
+		int k = Math.max(STREAM_LIMBS, b.length);
+		long la = a.limbLength();
+		if (b.length == 0) {
+			return;
+		}
+		for (long from = 0; from < la; from += k) {
+			//the products of the blocks below are less than B^(from + b.length)
+			addInto(multiply(block(a, from, k), b), from, out);
+		}
+		out.trim();
+	}
+	
+	/**
+	 * multiplies each block of k limbs of a by each block of k limbs of b,
+	 * adding the products into out at the sum of their offsets, so only two 
+	 * blocks and their product are on the heap at a time, for operands that 
+	 * are both too large for the heap
+	 * @param a a magnitude, which is usually off heap or mapped
+	 * @param b a magnitude, which is usually off heap or mapped, 
+	 *   it is read once for each block of a
+	 * @param k the limbs in a block
+	 * @param out a empty store for the magnitude of a * b
+	 */
+	static void multiply(AbstractLimbDelegate a, AbstractLimbDelegate b, int k, BufferLimbs out) {
+		long la = a.limbLength();
+		long lb = b.limbLength();
+		for (long i = 0; i < la; i += k) {
+			long [] x = block(a, i, k);
+			for (long j = 0; j < lb; j += k) {
+				addInto(multiply(x, block(b, j, k)), i + j, out);
+			}
+		}
+		out.trim();
+	}
+	
+	/**
+	 * @return the normalized magnitude of at most k limbs of a from the limb at from
+	 */
+	private static long[] block(AbstractLimbDelegate a, long from, int k) {
+		int n = (int) Math.min(k, a.limbLength() - from);
+		long [] x = new long[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = a.limb(from + i);
+		}
+		return Limbs.normalize(x, n);
+	}
+	
+	/**
+	 * adds p * B^from into out
+	 */
+	private static void addInto(long [] p, long from, BufferLimbs out) {
+		long carry = 0L;
+		int j = 0;
+		for (; j < p.length; j++) {
+			long o = out.get(from + j);
+			long s = o + p[j];
+			long c = Long.compareUnsigned(s, o) < 0 ? 1L : 0L;
+			long s2 = s + carry;
+			if (s2 == 0L && carry == 1L) {
+				c = 1L;
+			}
+			out.set(from + j, s2);
+			carry = c;
+		}
+		for (long i = from + j; carry != 0L; i++) {
+			long v = out.get(i) + 1L;
+			out.set(i, v);
+			carry = v == 0L ? 1L : 0L;
+		}
+	}
+	
+	/**
+	 * @param a 
+	 * @param b when this is the same instance as a, the product is a square 
+	 *   and takes advantage of the symmetry
+	 * @param parallel
+	 */
+	static long[] multiply(long [] a, long [] b, boolean parallel) {
+		if (a.length < b.length) {
+			long [] t = a;
+			a = b;
+			b = t;
+		}
+		if (b.length == 0) {
+			return Limbs.EMPTY;
+		} else if (b.length < KARATSUBA_LIMBS) {
+			return a == b ? squareSchoolbook(a) : schoolbook(a, b);
+		} else if (b.length >= Ntt.NTT_LIMBS && Ntt.fits(a.length, b.length)) {
+			return Ntt.multiply(a, b);
+		} else if (b.length << 1 <= a.length) {
+			return unbalanced(a, b, parallel);
+		} else if (b.length < TOOM3_LIMBS) {
+			return karatsuba(a, b, parallel);
+		}
+		return toom3(a, b, parallel);
+	}
+	
+	static long[] schoolbook(long [] a, long [] b) {
+		long [] r = new long[a.length + b.length];
+		for (int j = 0; j < b.length; j++) {
+			long y = b[j];
+			if (y == 0L) {
+				continue;
+			}
+			long carry = 0L;
+			for (int i = 0; i < a.length; i++) {
+				long x = a[i];
+				long lo = x * y;
+				long hi = Math.unsignedMultiplyHigh(x, y);
+				long s = r[i + j] + lo;
+				if (Long.compareUnsigned(s, lo) < 0) {
+					hi++;
+				}
+				long s2 = s + carry;
+				if (Long.compareUnsigned(s2, carry) < 0) {
+					hi++;
+				}
+				r[i + j] = s2;
+				carry = hi;
+			}
+			r[j + a.length] = carry;
+		}
+		return Limbs.normalize(r, r.length);
+	}
+	
+	/**
+	 * each product a[i]a[j] with i &lt; j is computed once and doubled, 
+	 * then the a[i]^2 diagonal is added
+	 */
+	static long[] squareSchoolbook(long [] a) {
+		int n = a.length;
+		long [] r = new long[n << 1];
+		for (int i = 0; i < n; i++) {
+			long x = a[i];
+			if (x == 0L) {
+				continue;
+			}
+			long carry = 0L;
+			for (int j = i + 1; j < n; j++) {
+				long y = a[j];
+				long lo = x * y;
+				long hi = Math.unsignedMultiplyHigh(x, y);
+				long s = r[i + j] + lo;
+				if (Long.compareUnsigned(s, lo) < 0) {
+					hi++;
+				}
+				long s2 = s + carry;
+				if (Long.compareUnsigned(s2, carry) < 0) {
+					hi++;
+				}
+				r[i + j] = s2;
+				carry = hi;
+			}
+			r[i + n] = carry;
+		}
+		long prior = 0L;
+		for (int i = 0; i < r.length; i++) {
+			long v = r[i];
+			r[i] = (v << 1) | (prior >>> 63);
+			prior = v;
+		}
+		long carry = 0L;
+		for (int i = 0; i < n; i++) {
+			long x = a[i];
+			long lo = x * x;
+			long hi = Math.unsignedMultiplyHigh(x, x);
+			long s = r[i << 1] + lo;
+			long c = Long.compareUnsigned(s, lo) < 0 ? 1L : 0L;
+			long s2 = s + carry;
+			if (Long.compareUnsigned(s2, carry) < 0) {
+				c = 1L;
+			}
+			r[i << 1] = s2;
+			long t = r[(i << 1) + 1] + hi;
+			long c2 = Long.compareUnsigned(t, hi) < 0 ? 1L : 0L;
+			long t2 = t + c;
+			if (Long.compareUnsigned(t2, c) < 0) {
+				c2 = 1L;
+			}
+			r[(i << 1) + 1] = t2;
+			carry = c2;
+		}
+		return Limbs.normalize(r, r.length);
+	}
+	
+	/**
+	 * @param a at least twice as long as b
+	 */
+	private static long[] unbalanced(long [] a, long [] b, boolean parallel) {
+		int pieces = (a.length + b.length - 1) / b.length;
+		long [][] xs = new long[pieces][];
+		long [][] ys = new long[pieces][];
+		for (int i = 0; i < pieces; i++) {
+			xs[i] = slice(a, i * b.length, (i + 1) * b.length);
+			ys[i] = b;
+		}
+		long [][] p = products(xs, ys, parallel);
+		long [] r = new long[a.length + b.length];
+		for (int i = 0; i < pieces; i++) {
+			addShifted(r, p[i], i * b.length);
+		}
+		return Limbs.normalize(r, r.length);
+	}
+	
+	/**
+	 * a = a1 * B^h + a0, b = b1 * B^h + b0<br/>
+	 * a * b = a1b1 * B^2h + ((a0 + a1)(b0 + b1) - a0b0 - a1b1) * B^h + a0b0
+	 */
+	private static long[] karatsuba(long [] a, long [] b, boolean parallel) {
+		boolean square = a == b;
+		int h = (a.length + 1) >>> 1;
+		long [] a0 = slice(a, 0, h);
+		long [] a1 = slice(a, h, a.length);
+		long [] a01 = Limbs.add(a0, a1);
+		long [] b0 = square ? a0 : slice(b, 0, h);
+		long [] b1 = square ? a1 : slice(b, h, b.length);
+		long [][] p = products(new long[][] {a0, a1, a01}, 
+				new long[][] {b0, b1, square ? a01 : Limbs.add(b0, b1)}, parallel);
+		long [] z1 = Limbs.subtract(Limbs.subtract(p[2], p[0]), p[1]);
+		long [] r = new long[a.length + b.length];
+		addShifted(r, p[0], 0);
+		addShifted(r, z1, h);
+		addShifted(r, p[1], h << 1);
+		return Limbs.normalize(r, r.length);
+	}
+	
+	/**
+	 * Toom-3 evaluating at 0, 1, -1, 2 and infinity, 
+	 * with Bodrato's interpolation sequence (the same as java.math.BigInteger).
+	 */
+	private static long[] toom3(long [] a, long [] b, boolean parallel) {
+		int k = (a.length + 2) / 3;
+		long [] a0 = slice(a, 0, k);
+		long [] a1 = slice(a, k, k << 1);
+		long [] a2 = slice(a, k << 1, a.length);
+		long [] da1 = Limbs.add(a2, a0);
+		Signed am1 = Signed.subtract(da1, a1);
+		da1 = Limbs.add(da1, a1);
+		long [] da2 = Limbs.subtract(shiftLeft1(Limbs.add(da1, a2)), a0);
+		
+		long [] b0, b2, db1, db2;
+		Signed bm1;
+		if (a == b) {
+			b0 = a0;
+			b2 = a2;
+			db1 = da1;
+			bm1 = am1;
+			db2 = da2;
+		} else {
+			b0 = slice(b, 0, k);
+			long [] b1 = slice(b, k, k << 1);
+			b2 = slice(b, k << 1, b.length);
+			db1 = Limbs.add(b2, b0);
+			bm1 = Signed.subtract(db1, b1);
+			db1 = Limbs.add(db1, b1);
+			db2 = Limbs.subtract(shiftLeft1(Limbs.add(db1, b2)), b0);
+		}
+		
+		long [][] p = products(new long[][] {a0, da1, am1.mag, da2, a2}, 
+				new long[][] {b0, db1, bm1.mag, db2, b2}, parallel);
+		Signed v0 = new Signed(p[0], false);
+		Signed v1 = new Signed(p[1], false);
+		Signed vm1 = new Signed(p[2], am1.negative != bm1.negative);
+		Signed v2 = new Signed(p[3], false);
+		Signed vinf = new Signed(p[4], false);
+		
+		Signed t2 = v2.subtract(vm1).exactDivideBy3();
+		Signed tm1 = v1.subtract(vm1).shiftRight1();
+		Signed t1 = v1.subtract(v0);
+		t2 = t2.subtract(t1).shiftRight1();
+		t1 = t1.subtract(tm1).subtract(vinf);
+		t2 = t2.subtract(vinf.shiftLeft1());
+		tm1 = tm1.subtract(t2);
+		
+		long [] r = new long[a.length + b.length];
+		addShifted(r, v0.mag, 0);
+		addShifted(r, tm1.mag, k);
+		addShifted(r, t1.mag, k << 1);
+		addShifted(r, t2.mag, k * 3);
+		addShifted(r, vinf.mag, k << 2);
+		return Limbs.normalize(r, r.length);
+	}
+	
+	/**
+	 * @return xs[i] * ys[i], forking the large products when parallel
+	 */
+	private static long[][] products(long [][] xs, long [][] ys, boolean parallel) {
+		long [][] r = new long[xs.length][];
+		if (parallel) {
+			MultiplyTask [] tasks = new MultiplyTask[xs.length];
+			int forked = 0;
+			for (int i = 0; i < xs.length; i++) {
+				if (Math.max(xs[i].length, ys[i].length) >= PARALLEL_LIMBS) {
+					tasks[i] = new MultiplyTask(xs[i], ys[i]);
+					tasks[i].fork();
+					forked++;
+				}
+			}
+			for (int i = 0; i < xs.length; i++) {
+				if (tasks[i] == null) {
+					r[i] = multiply(xs[i], ys[i], false);
+				}
+			}
+			if (forked > 0) {
+				for (int i = xs.length - 1; i >= 0; i--) {
+					if (tasks[i] != null) {
+						r[i] = tasks[i].join();
+					}
+				}
+			}
+			return r;
+		}
+		for (int i = 0; i < xs.length; i++) {
+			r[i] = multiply(xs[i], ys[i], false);
+		}
+		return r;
+	}
+	
+	/**
+	 * @return the normalized limbs of a from (inclusive) to (exclusive)
+	 */
+	static long[] slice(long [] a, int from, int to) {
+		to = Math.min(to, a.length);
+		if (from >= to) {
+			return Limbs.EMPTY;
+		}
+		return Limbs.normalize(Arrays.copyOfRange(a, from, to), to - from);
+	}
+	
+	/**
+	 * r += x * B^offset in place, r must be long enough to hold the sum
+	 */
+	static void addShifted(long [] r, long [] x, int offset) {
+		long carry = 0L;
+		int i = 0;
+		for (; i < x.length; i++) {
+			long y = r[offset + i];
+			long s = y + x[i];
+			long c = Long.compareUnsigned(s, y) < 0 ? 1L : 0L;
+			long s2 = s + carry;
+			if (s2 == 0L && carry == 1L) {
+				c = 1L;
+			}
+			r[offset + i] = s2;
+			carry = c;
+		}
+		for (int j = offset + i; carry != 0L && j < r.length; j++) {
+			r[j] += 1L;
+			carry = r[j] == 0L ? 1L : 0L;
+		}
+	}
+	
+	static long[] shiftLeft1(long [] a) {
+		if (a.length == 0) {
+			return a;
+		}
+		long [] r = new long[a.length + 1];
+		long prior = 0L;
+		for (int i = 0; i < a.length; i++) {
+			r[i] = (a[i] << 1) | (prior >>> 63);
+			prior = a[i];
+		}
+		r[a.length] = prior >>> 63;
+		return Limbs.normalize(r, r.length);
+	}
+	
+	static long[] shiftRight1(long [] a) {
+		long [] r = new long[a.length];
+		for (int i = 0; i < a.length; i++) {
+			long next = i + 1 < a.length ? a[i + 1] : 0L;
+			r[i] = (a[i] >>> 1) | (next << 63);
+		}
+		return Limbs.normalize(r, r.length);
+	}
+	
+	/**
+	 * the multiplicative inverse of 3 mod 2^64
+	 */
+	private static final long INVERSE_OF_3 = 0xAAAAAAAAAAAAAAABL;
+	
+	/**
+	 * @param a must be a multiple of 3
+	 * @return a / 3, computed from the least significant limb up 
+	 *   with the inverse of 3 (Jebelean's exact division)
+	 */
+	static long[] exactDivideBy3(long [] a) {
+		long [] r = new long[a.length];
+		long borrow = 0L;
+		for (int i = 0; i < a.length; i++) {
+			long x = a[i];
+			long t = x - borrow;
+			long q = t * INVERSE_OF_3;
+			r[i] = q;
+			borrow = Math.unsignedMultiplyHigh(q, 3L) + (Long.compareUnsigned(x, borrow) < 0 ? 1L : 0L);
+		}
+		return Limbs.normalize(r, r.length);
+	}
+	
+	/**
+	 * A signed magnitude for the Toom-3 interpolation, 
+	 * which has negative intermediate values.
+	 */
+	private static class Signed {
+		private final long [] mag;
+		private final boolean negative;
+		
+		Signed(long [] mag, boolean negative) {
+			this.mag = mag;
+			this.negative = negative && mag.length != 0;
+		}
+		
+		static Signed subtract(long [] a, long [] b) {
+			if (Limbs.compare(a, b) >= 0) {
+				return new Signed(Limbs.subtract(a, b), false);
+			}
+			return new Signed(Limbs.subtract(b, a), true);
+		}
+		
+		Signed subtract(Signed other) {
+			if (negative != other.negative) {
+				return new Signed(Limbs.add(mag, other.mag), negative);
+			}
+			Signed r = subtract(mag, other.mag);
+			return new Signed(r.mag, r.negative != negative);
+		}
+		
+		Signed shiftLeft1() {
+			return new Signed(Multiply.shiftLeft1(mag), negative);
+		}
+		
+		Signed shiftRight1() {
+			return new Signed(Multiply.shiftRight1(mag), negative);
+		}
+		
+		Signed exactDivideBy3() {
+			return new Signed(Multiply.exactDivideBy3(mag), negative);
+		}
+	}
+	
+	private static class MultiplyTask extends RecursiveTask<long[]> {
+		private static final long serialVersionUID = 1L;
+		private final long [] a;
+		private final long [] b;
+		
+		MultiplyTask(long [] a, long [] b) {
+			this.a = a;
+			this.b = b;
+		}
+		
+		@Override
+		protected long[] compute() {
+			return multiply(a, b, true);
+		}
+	}
+}
@@ -0,0 +1,443 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Multiplies limb magnitudes (see {@link Limbs}) with number theoretic transforms 
+ * over three primes below 2^62, and recombines the three cyclic convolutions 
+ * with the chinese remainder theorem (Garner's algorithm).  Each 64 bit limb is 
+ * one transform coefficient, the three primes hold coefficients up to 
+ * about 2^185 which is more than min(a,b) limbs of 128 bit products.<br/>
+ * Arithmetic mod each prime is 64 bit Montgomery multiplication
+ * (R = 2^64), with Math.unsignedMultiplyHigh.  The butterflies of each
+ * stage run in parallel on the fork join pool for large transforms.<br/>
+ * The operands are read limb by limb from their delegates, and the result 
+ * is carried limb by limb into a {@link BufferLimbs} store when there is one, 
+ * but the transforms themselves are heap arrays of the padded product length, 
+ * about {@link #heapBytes(long)} (36 bytes per limb of the padded product) 
+ * at the peak.  So off heap and mapped operands only use transforms when 
+ * {@link #fitsHeap(long)}, and are otherwise multiplied by blocks 
+ * of {@link #blockLimbs()}.
+ *
+ * 
+ * @author scott<br/>
+ *         <br/>
+ * 
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class Ntt {
+	/**
+	 * the number of limbs in the smaller operand where {@link Multiply} 
+	 * switches from Toom-3 to transforms, which can be tuned with the 
+	 * org.adligo.math.nttLimbs system property
+	 */
+	static final int NTT_LIMBS = Integer.getInteger("org.adligo.math.nttLimbs", 1 << 11);
+	/**
+	 * the largest transform, java arrays can't hold 2^31 longs
+	 */
+	static final int MAX_LENGTH = 1 << 30;
+	/**
+	 * the number of butterflies in each parallel task of a stage
+	 */
+	private static final int PARALLEL_BUTTERFLIES = 1 << 14;
+	
+	/**
+	 * 16291 * 2^48 + 1
+	 */
+	static final Prime P1 = new Prime(0x3fa3000000000001L, 5);
+	/**
+	 * 32721 * 2^47 + 1
+	 */
+	static final Prime P2 = new Prime(0x3fe8800000000001L, 14);
+	/**
+	 * 65535 * 2^46 + 1, so transforms can be up to 2^46 long
+	 */
+	static final Prime P3 = new Prime(0x3fffc00000000001L, 11);
+	
+	/**
+	 * p1^-1 mod p2, in Montgomery form
+	 */
+	private static final long INV_P1_MOD_P2 = P2.toMontgomery(P2.inverse(P1.p));
+	/**
+	 * p1 mod p3, in Montgomery form
+	 */
+	private static final long P1_MOD_P3 = P3.toMontgomery(P1.p);
+	/**
+	 * (p1 * p2)^-1 mod p3, in Montgomery form
+	 */
+	private static final long INV_P1P2_MOD_P3 = P3.toMontgomery(
+			P3.inverse(BigInteger.valueOf(P1.p).multiply(BigInteger.valueOf(P2.p))
+					.mod(BigInteger.valueOf(P3.p)).longValue()));
+	private static final long P1P2_LO = P1.p * P2.p;
+	private static final long P1P2_HI = Math.unsignedMultiplyHigh(P1.p, P2.p);
+	
+	private Ntt() {}
+	
+	/**
+	 * @param aLimbs
+	 * @param bLimbs
+	 * @return true if a transform can hold the product
+	 */
+	static boolean fits(long aLimbs, long bLimbs) {
+		return aLimbs + bLimbs <= MAX_LENGTH;
+	}
+	
+	/**
+	 * @param limbs the limbs of a product
+	 * @return the power of 2 transform length that holds it
+	 */
+	static long length(long limbs) {
+		long n = Long.highestOneBit(limbs);
+		return n < limbs ? n << 1 : n;
+	}
+	
+	/**
+	 * @param limbs the limbs of a product
+	 * @return the peak bytes of heap the transforms use, the two transforms 
+	 *   of the prime being convolved, the finished residues of the primes 
+	 *   before it and the roots, which is also more than the three residues 
+	 *   and a heap product when there is no store
+	 */
+	static long heapBytes(long limbs) {
+		long n = length(limbs);
+		return (n * 4L + (n >>> 1)) << 3;
+	}
+	
+	/**
+	 * @param limbs the limbs of a product
+	 * @return true when the transforms of the product take at most half 
+	 *   of the heap that is free now
+	 */
+	static boolean fitsHeap(long limbs) {
+		Runtime rt = Runtime.getRuntime();
+		long free = rt.maxMemory() - rt.totalMemory() + rt.freeMemory();
+		return heapBytes(limbs) <= free / 2;
+	}
+	
+	/**
+	 * @return the largest power of 2 number of limbs, which is at least 
+	 *   {@link #NTT_LIMBS}, where the product of two blocks {@link #fitsHeap(long)}
+	 */
+	static int blockLimbs() {
+		int k = Integer.highestOneBit(NTT_LIMBS);
+		while (k < MAX_LENGTH / 2 && fitsHeap(4L * k)) {
+			k <<= 1;
+		}
+		return k;
+	}
+	
+	/**
+	 * @param a a normalized magnitude
+	 * @param b a normalized magnitude
+	 * @return the normalized magnitude of a * b
+	 */
+	static long[] multiply(long [] a, long [] b) {
+		LimbDelegate da = new LimbDelegate(a, false);
+		return multiply(da, a == b ? da : new LimbDelegate(b, false), null);
+	}
+	
+	/**
+	 * @param a 
+	 * @param b when this is the same instance as a, a is only transformed once
+	 * @param out a empty store for the magnitude of a * b, or null
+	 * @return the normalized magnitude of a * b, or null when it was written to out
+	 */
+	static long[] multiply(AbstractLimbDelegate a, AbstractLimbDelegate b, BufferLimbs out) {
+		long la = a.limbLength();
+		long lb = b.limbLength();
+		if (la == 0 || lb == 0) {
+			return out == null ? Limbs.EMPTY : null;
+		}
+		int size = (int) (la + lb);
+		int n = (int) length(size);
+		boolean square = a == b;
+		long [] r1 = convolve(P1, a, b, n, square);
+		long [] r2 = convolve(P2, a, b, n, square);
+		long [] r3 = convolve(P3, a, b, n, square);
+		garner(r1, r2, r3, size);
+		return carry(r1, r2, r3, size, out);
+	}
+	
+	/**
+	 * @return the cyclic convolution of a and b mod the prime
+	 */
+	private static long[] convolve(Prime prime, AbstractLimbDelegate a, AbstractLimbDelegate b, int n, boolean square) {
+		long [] fa = prime.load(a, n);
+		prime.transform(fa, false);
+		if (square) {
+			parallelFor(n, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					fa[i] = prime.multiply(fa[i], fa[i]);
+				}
+			});
+		} else {
+			long [] fb = prime.load(b, n);
+			prime.transform(fb, false);
+			parallelFor(n, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					fa[i] = prime.multiply(fa[i], fb[i]);
+				}
+			});
+		}
+		prime.transform(fa, true);
+		return fa;
+	}
+	
+	/**
+	 * replaces the residues in r1, r2 and r3 with the 192 bit value 
+	 * (r1 limb 0, r2 limb 1, r3 limb 2) that they represent
+	 */
+	private static void garner(long [] r1, long [] r2, long [] r3, int size) {
+		parallelFor(size, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				long x1 = r1[i];
+				long x2 = P2.multiply(P2.subtract(r2[i], x1), INV_P1_MOD_P2);
+				long t = P3.subtract(r3[i], x1);
+				t = P3.subtract(t, P3.multiply(x2, P1_MOD_P3));
+				long x3 = P3.multiply(t, INV_P1P2_MOD_P3);
+				
+				// x1 + x2 * p1
+				long v0 = x2 * P1.p;
+				long v1 = Math.unsignedMultiplyHigh(x2, P1.p);
+				long s = v0 + x1;
+				if (Long.compareUnsigned(s, v0) < 0) {
+					v1++;
+				}
+				v0 = s;
+				// + x3 * p1 * p2
+				long lo = x3 * P1P2_LO;
+				long mid = Math.unsignedMultiplyHigh(x3, P1P2_LO);
+				long mid2 = x3 * P1P2_HI;
+				long v2 = Math.unsignedMultiplyHigh(x3, P1P2_HI);
+				s = mid + mid2;
+				if (Long.compareUnsigned(s, mid) < 0) {
+					v2++;
+				}
+				mid = s;
+				s = v0 + lo;
+				if (Long.compareUnsigned(s, v0) < 0) {
+					mid++;
+					if (mid == 0L) {
+						v2++;
+					}
+				}
+				v0 = s;
+				s = v1 + mid;
+				if (Long.compareUnsigned(s, v1) < 0) {
+					v2++;
+				}
+				r1[i] = v0;
+				r2[i] = s;
+				r3[i] = v2;
+			}
+		});
+	}
+	
+	/**
+	 * adds the overlapping 192 bit values into the product from little to big
+	 */
+	private static long[] carry(long [] r1, long [] r2, long [] r3, int size, BufferLimbs out) {
+		long [] r = out == null ? new long[size] : null;
+		long c0 = 0L;
+		long c1 = 0L;
+		for (int i = 0; i < size; i++) {
+			long v0 = r1[i] + c0;
+			long k = Long.compareUnsigned(v0, c0) < 0 ? 1L : 0L;
+			long v1 = r2[i] + c1;
+			long k1 = Long.compareUnsigned(v1, c1) < 0 ? 1L : 0L;
+			long v1k = v1 + k;
+			if (v1k == 0L && k == 1L) {
+				k1 = 1L;
+			}
+			long v2 = r3[i] + k1;
+			if (out == null) {
+				r[i] = v0;
+			} else {
+				out.set(i, v0);
+			}
+			c0 = v1k;
+			c1 = v2;
+		}
+		if (out != null) {
+			out.trim();
+			return null;
+		}
+		return Limbs.normalize(r, size);
+	}
+	
+	@FunctionalInterface
+	private interface Range {
+		void run(int from, int to);
+	}
+	
+	private static void parallelFor(int count, Range range) {
+		if (count <= PARALLEL_BUTTERFLIES) {
+			range.run(0, count);
+			return;
+		}
+		int tasks = (count + PARALLEL_BUTTERFLIES - 1) / PARALLEL_BUTTERFLIES;
+		IntStream.range(0, tasks).parallel().forEach((t) -> 
+			range.run(t * PARALLEL_BUTTERFLIES, Math.min(count, (t + 1) * PARALLEL_BUTTERFLIES)));
+	}
+	
+	/**
+	 * A prime p below 2^62, with p - 1 divisible by a large power of 2 
+	 * and 64 bit Montgomery arithmetic mod p.
+	 */
+	static final class Prime {
+		final long p;
+		/**
+		 * p^-1 mod 2^64
+		 */
+		private final long pInverse;
+		/**
+		 * 2^128 mod p
+		 */
+		private final long r2;
+		private final long generator;
+		
+		Prime(long p, long generator) {
+			this.p = p;
+			this.generator = generator;
+			long inv = p;
+			for (int i = 0; i < 5; i++) {
+				inv *= 2L - p * inv;
+			}
+			pInverse = inv;
+			r2 = BigInteger.ONE.shiftLeft(128).mod(BigInteger.valueOf(p)).longValue();
+		}
+		
+		/**
+		 * @return a * b / 2^64 mod p, which is the product of two values in Montgomery form
+		 */
+		long multiply(long a, long b) {
+			long lo = a * b;
+			long hi = Math.unsignedMultiplyHigh(a, b);
+			long m = lo * pInverse;
+			long r = hi - Math.unsignedMultiplyHigh(m, p);
+			return r < 0L ? r + p : r;
+		}
+		
+		long add(long a, long b) {
+			long s = a + b;
+			return s >= p ? s - p : s;
+		}
+		
+		long subtract(long a, long b) {
+			long d = a - b;
+			return d < 0L ? d + p : d;
+		}
+		
+		long toMontgomery(long a) {
+			return multiply(Long.remainderUnsigned(a, p), r2);
+		}
+		
+		long fromMontgomery(long a) {
+			return multiply(a, 1L);
+		}
+		
+		/**
+		 * @param a in Montgomery form
+		 * @return a^e in Montgomery form
+		 */
+		long pow(long a, long e) {
+			long r = toMontgomery(1L);
+			while (e != 0L) {
+				if ((e & 1L) != 0L) {
+					r = multiply(r, a);
+				}
+				a = multiply(a, a);
+				e >>>= 1;
+			}
+			return r;
+		}
+		
+		/**
+		 * @param a not in Montgomery form
+		 * @return a^-1 mod p, not in Montgomery form
+		 */
+		long inverse(long a) {
+			return fromMontgomery(pow(toMontgomery(a), p - 2L));
+		}
+		
+		/**
+		 * @return the limbs of d mod p, in Montgomery form, zero padded to n
+		 */
+		long[] load(AbstractLimbDelegate d, int n) {
+			long [] r = new long[n];
+			int len = (int) d.limbLength();
+			parallelFor(len, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					r[i] = toMontgomery(d.limb(i));
+				}
+			});
+			return r;
+		}
+		
+		/**
+		 * a iterative radix 2 transform in place, the inverse transform 
+		 * also converts out of Montgomery form and divides by the length
+		 * @param a a power of 2 long, in Montgomery form
+		 */
+		void transform(long [] a, boolean inverse) {
+			int n = a.length;
+			int shift = Integer.numberOfLeadingZeros(n) + 1;
+			for (int i = 0; i < n; i++) {
+				int j = Integer.reverse(i) >>> shift;
+				if (i < j) {
+					long t = a[i];
+					a[i] = a[j];
+					a[j] = t;
+				}
+			}
+			long e = (p - 1L) / n;
+			long root = pow(toMontgomery(generator), inverse ? p - 1L - e : e);
+			long [] w = new long[Math.max(1, n >>> 1)];
+			w[0] = toMontgomery(1L);
+			for (int j = 1; j < w.length; j++) {
+				w[j] = multiply(w[j - 1], root);
+			}
+			for (int len = 2; len <= n; len <<= 1) {
+				int half = len >>> 1;
+				int halfShift = Integer.numberOfTrailingZeros(half);
+				int step = n / len;
+				parallelFor(n >>> 1, (from, to) -> {
+					for (int t = from; t < to; t++) {
+						int j = t & (half - 1);
+						int i = ((t >>> halfShift) << (halfShift + 1)) + j;
+						long u = a[i];
+						long v = multiply(a[i + half], w[j * step]);
+						a[i] = add(u, v);
+						a[i + half] = subtract(u, v);
+					}
+				});
+			}
+			if (inverse) {
+				// n^-1 * R^-1 * R, so the multiply leaves Montgomery form 
+				long scale = inverse(n);
+				parallelFor(n, (from, to) -> {
+					for (int i = from; i < to; i++) {
+						a[i] = multiply(a[i], scale);
+					}
+				});
+			}
+		}
+	}
+}
@@ -0,0 +1,206 @@
+package org.adligo.math.shared.huge;
+
+import java.util.stream.IntStream;
+
+/**
+ * Adds or subtracts the magnitudes of two very large values on the fork join pool 
+ * with block carry lookahead;<br/>
+ * 1) the limbs are split into blocks, and each block is summed in parallel
+ *   with no carry in, recording if it generates a carry, and if it would 
+ *   propagate a carry (every limb of the sum is all ones).<br/>
+ * 2) the carry into each block is resolved from the generate and propagate
+ *   flags, with a sequential O(blocks) scan on the calling thread, not a parallel 
+ *   prefix.  There are about 4 blocks per core, so the scan is a few dozen steps 
+ *   next to the O(limbs / cores) work of phases 1 and 3.<br/>
+ * 3) the blocks with a carry in are incremented in parallel.<br/>
+ * Subtraction is the same with borrows, where a block propagates when 
+ * every limb of the difference is zero.
+ *
+ * 
+ * @author scott<br/>
+ *         <br/>
+ * 
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class ParallelAdd {
+	/**
+	 * the smallest number of limbs in a block, blocks are a multiple of this
+	 * so that parallel writes into a {@link BufferLimbs} never share a block of it's index
+	 */
+	static final int MIN_BLOCK = BufferLimbs.INDEX_LIMBS;
+	
+	private ParallelAdd() {}
+	
+	/**
+	 * @return the normalized magnitude of a + b
+	 */
+	static long[] add(AbstractLimbDelegate a, AbstractLimbDelegate b) {
+		long n = Math.max(a.limbLength(), b.limbLength());
+		long [] r = new long[(int) n + 1];
+		if (run(a, b, false, new ArrayOut(r), n)) {
+			r[(int) n] = 1L;
+		}
+		return Limbs.normalize(r, r.length);
+	}
+	
+	/**
+	 * writes the magnitude of a + b into the empty store out
+	 */
+	static void add(AbstractLimbDelegate a, AbstractLimbDelegate b, BufferLimbs out) {
+		long n = Math.max(a.limbLength(), b.limbLength());
+		out.set(n, 0L);
+		if (run(a, b, false, new BufferOut(out), n)) {
+			out.set(n, 1L);
+		}
+		out.trim();
+	}
+	
+	/**
+	 * @param big must have a magnitude greater than or equal to little
+	 * @return the normalized magnitude of big - little
+	 */
+	static long[] subtract(AbstractLimbDelegate big, AbstractLimbDelegate little) {
+		long n = big.limbLength();
+		long [] r = new long[(int) n];
+		run(big, little, true, new ArrayOut(r), n);
+		return Limbs.normalize(r, r.length);
+	}
+	
+	/**
+	 * writes the magnitude of big - little into the empty store out
+	 * @param big must have a magnitude greater than or equal to little
+	 */
+	static void subtract(AbstractLimbDelegate big, AbstractLimbDelegate little, BufferLimbs out) {
+		long n = big.limbLength();
+		if (n == 0) {
+			return;
+		}
+		out.set(n - 1, 0L);
+		run(big, little, true, new BufferOut(out), n);
+		out.trim();
+	}
+	
+	/**
+	 * @return the carry (or borrow) out of the most significant limb
+	 */
+	private static boolean run(AbstractLimbDelegate a, AbstractLimbDelegate b, boolean subtract, Out out, long n) {
+		if (n == 0) {
+			return false;
+		}
+		int threads = Runtime.getRuntime().availableProcessors();
+		long target = (n + threads * 4L - 1) / (threads * 4L);
+		long blockSize = Math.max(1L, (target + MIN_BLOCK - 1) / MIN_BLOCK) * MIN_BLOCK;
+		int blocks = (int) ((n + blockSize - 1) / blockSize);
+		boolean [] generate = new boolean[blocks];
+		boolean [] propagate = new boolean[blocks];
+		IntStream.range(0, blocks).parallel().forEach((k) -> {
+			long from = k * blockSize;
+			long to = Math.min(n, from + blockSize);
+			long carry = 0L;
+			boolean p = true;
+			if (subtract) {
+				for (long i = from; i < to; i++) {
+					long x = a.limb(i);
+					long y = b.limb(i);
+					long d = x - y - carry;
+					carry = (Long.compareUnsigned(x, y) < 0 || (x == y && carry == 1L)) ? 1L : 0L;
+					p &= d == 0L;
+					out.set(i, d);
+				}
+			} else {
+				for (long i = from; i < to; i++) {
+					long x = a.limb(i);
+					long s = x + b.limb(i);
+					long c = Long.compareUnsigned(s, x) < 0 ? 1L : 0L;
+					long s2 = s + carry;
+					if (s2 == 0L && carry == 1L) {
+						c = 1L;
+					}
+					carry = c;
+					p &= s2 == -1L;
+					out.set(i, s2);
+				}
+			}
+			generate[k] = carry != 0L;
+			propagate[k] = p;
+		});
+		//sequential, as there are only about 4 blocks per core
+		boolean [] carryIn = new boolean[blocks];
+		boolean c = false;
+		for (int k = 0; k < blocks; k++) {
+			carryIn[k] = c;
+			c = generate[k] || (propagate[k] && c);
+		}
+		IntStream.range(0, blocks).parallel().forEach((k) -> {
+			if (carryIn[k]) {
+				long from = k * blockSize;
+				long to = Math.min(n, from + blockSize);
+				for (long i = from; i < to; i++) {
+					long v = out.get(i);
+					out.set(i, subtract ? v - 1L : v + 1L);
+					if ((subtract && v != 0L) || (!subtract && v != -1L)) {
+						break;
+					}
+				}
+			}
+		});
+		return c;
+	}
+	
+	private static abstract class Out {
+		abstract long get(long index);
+		abstract void set(long index, long value);
+	}
+	
+	private static class ArrayOut extends Out {
+		private final long [] limbs;
+		
+		ArrayOut(long [] limbs) {
+			this.limbs = limbs;
+		}
+		
+		long get(long index) {
+			return limbs[(int) index];
+		}
+		
+		void set(long index, long value) {
+			limbs[(int) index] = value;
+		}
+	}
+	
+	/**
+	 * the store must already be long enough, so that parallel writes 
+	 * don't allocate segments
+	 */
+	private static class BufferOut extends Out {
+		private final BufferLimbs limbs;
+		
+		BufferOut(BufferLimbs limbs) {
+			this.limbs = limbs;
+		}
+		
+		long get(long index) {
+			return limbs.get(index);
+		}
+		
+		void set(long index, long value) {
+			limbs.set(index, value);
+		}
+	}
+}
@@ -0,0 +1,385 @@
+package org.adligo.math.shared.huge;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Divide and conquer conversion between magnitudes and digits in a radix.<br/>
+ * The chunk of a radix is the largest power of it that fits in a long,
+ * and the powers chunk^(2^level) are computed once by squaring, the
+ * smaller ones are cached across conversions.<br/>
+ * Writing divides the value by the largest power that is about it's square
+ * root, and writes the quotient and then the remainder padded with zeros,
+ * so the digits are appended from the most significant with out building
+ * a string.  Parsing splits the digits at a power, and multiplies the value
+ * of the high digits by it, forking the halves of large numbers onto the
+ * fork join pool.  Both are O(M(n) log n) with the sub quadratic multiply
+ * and divide, instead of O(n^2) for a digit at a time.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class Radix {
+	/**
+	 * magnitudes with at most this many limbs are converted a chunk at a time
+	 */
+	static final int LEAF_LIMBS = 32;
+	/**
+	 * powers with at most this many limbs are kept for later conversions
+	 */
+	static final int CACHED_POWER_LIMBS = 1 << 15;
+	/**
+	 * parses of at least this many digits fork their halves
+	 */
+	static final int FORK_DIGITS = 1 << 16;
+	private static final Map<Integer, List<long[]>> CACHE = new ConcurrentHashMap<>();
+	private static final long [] ONE = new long[] {1L};
+
+	private Radix() {}
+
+	/**
+	 * appends the sign and digits of a
+	 * @param a
+	 * @param radix from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}
+	 * @param out
+	 * @throws IOException
+	 */
+	static void write(AbstractLimbDelegate a, int radix, Appendable out) throws IOException {
+		long [] mag = a.toLimbs();
+		if (mag.length == 0) {
+			out.append('0');
+			return;
+		} else if (a.isNegative()) {
+			out.append('-');
+		}
+		Powers p = new Powers(radix);
+		long bits = Limbs.bitLength(mag);
+		int level = 0;
+		//mag is less than the square of a power with more than half of it's bits 
+		while (Limbs.bitLength(p.get(level)) * 2 - 2 < bits) {
+			level++;
+		}
+		if (level > 0 && Limbs.compare(mag, p.get(level)) < 0) {
+			//the power is the square of the one below
+			level--;
+		}
+		write(mag, level, 0, p, out);
+	}
+
+	/**
+	 * @param s
+	 * @param radix
+	 * @return the value of the optionally signed digits
+	 * @throws NumberFormatException
+	 */
+	static HugeInt parse(CharSequence s, int radix) {
+		if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+			throw new NumberFormatException(HugeInt.THE_RADIX_IS_OUT_OF_RANGE);
+		}
+		int len = s.length();
+		int from = 0;
+		boolean negative = false;
+		if (len > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+			negative = s.charAt(0) == '-';
+			from = 1;
+		}
+		if (from == len) {
+			throw new NumberFormatException(HugeInt.A_DIGIT_IS_REQUIRED);
+		}
+		Powers p = new Powers(radix);
+		//computes every power the tasks use up front, so they only read them
+		p.get(Math.max(0, p.level(len - from)));
+		ParseTask task = new ParseTask(s, from, len, p);
+		if (len - from >= FORK_DIGITS) {
+			return HugeInt.valueOf(ForkJoinPool.commonPool().invoke(task), negative);
+		}
+		return HugeInt.valueOf(task.compute(), negative);
+	}
+
+	/**
+	 * @param a a normalized magnitude, less than the square of the power at the level
+	 * @param level
+	 * @param pad the number of digits to write, with leading zeros,
+	 *   or 0 to write the digits with out leading zeros
+	 */
+	private static void write(long [] a, int level, long pad, Powers p, Appendable out) throws IOException {
+		if (a.length <= LEAF_LIMBS || level < 0) {
+			leaf(a, pad, p, out);
+			return;
+		}
+		long [][] qr = divide(a, level, p);
+		long digits = p.digits(level);
+		if (pad == 0 && qr[0].length == 0) {
+			//the most significant digits are in the remainder
+			write(qr[1], level - 1, 0, p, out);
+			return;
+		}
+		write(qr[0], level - 1, pad == 0 ? 0 : pad - digits, p, out);
+		write(qr[1], level - 1, digits, p, out);
+	}
+
+	/**
+	 * Barrett's reduction with the cached reciprocal of the power, which is
+	 * two multiplies instead of a division, since every level divides by the same power
+	 * @param a less than the square of the power at the level
+	 * @return the quotient at 0 and remainder at 1 of a divided by the power at the level
+	 */
+	private static long[][] divide(long [] a, int level, Powers p) {
+		long [] d = p.get(level);
+		int n = d.length;
+		long [] q = Multiply.multiply(Multiply.slice(a, n - 1, a.length), p.reciprocal(level));
+		q = Multiply.slice(q, n + 1, q.length);
+		long [] r = Limbs.subtract(a, Multiply.multiply(q, d));
+		//the estimate is at most 2 less than the quotient
+		while (Limbs.compare(r, d) >= 0) {
+			r = Limbs.subtract(r, d);
+			q = Limbs.add(q, ONE);
+		}
+		return new long[][] {q, r};
+	}
+
+	private static void leaf(long [] a, long pad, Powers p, Appendable out) throws IOException {
+		//each chunk is more than 57 bits
+		long [] chunks = new long[a.length * 2 + 1];
+		int n = 0;
+		while (a.length != 0) {
+			long [] q = new long[a.length];
+			chunks[n++] = Divide.divideByLimb(a, p.chunk, q);
+			a = Limbs.normalize(q, q.length);
+		}
+		String top = n == 0 ? "" : Long.toString(chunks[n - 1], p.radix);
+		zeros(pad - top.length() - (long) p.digits * Math.max(0, n - 1), out);
+		out.append(top);
+		for (int i = n - 2; i >= 0; i--) {
+			String s = Long.toString(chunks[i], p.radix);
+			zeros(p.digits - s.length(), out);
+			out.append(s);
+		}
+	}
+
+	private static void zeros(long count, Appendable out) throws IOException {
+		for (long i = 0; i < count; i++) {
+			out.append('0');
+		}
+	}
+
+	/**
+	 * Horner's rule a chunk of digits at a time
+	 */
+	private static long[] leaf(CharSequence s, int from, int to, Powers p) {
+		long [] r = new long[(to - from) / p.digits + 2];
+		int len = 0;
+		int i = from;
+		int first = (to - from) % p.digits;
+		int end = from + (first == 0 ? p.digits : first);
+		while (i < to) {
+			long group = 0;
+			long m = 1;
+			for (; i < end; i++) {
+				int d = Character.digit(s.charAt(i), p.radix);
+				if (d < 0) {
+					throw new NumberFormatException(HugeInt.THE_CHARACTER_IS_NOT_A_DIGIT_OF_THE_RADIX);
+				}
+				group = group * p.radix + d;
+				m *= p.radix;
+			}
+			long carry = group;
+			for (int j = 0; j < len; j++) {
+				long lo = r[j] * m;
+				long hi = Math.unsignedMultiplyHigh(r[j], m);
+				lo += carry;
+				if (Long.compareUnsigned(lo, carry) < 0) {
+					hi++;
+				}
+				r[j] = lo;
+				carry = hi;
+			}
+			if (carry != 0L) {
+				r[len++] = carry;
+			}
+			end += p.digits;
+		}
+		return Limbs.normalize(r, len);
+	}
+
+	/**
+	 * the powers chunk^(2^level) of a radix
+	 */
+	static final class Powers {
+		final int radix;
+		/**
+		 * the number of digits in a chunk
+		 */
+		final int digits;
+		/**
+		 * radix^digits, the largest power of the radix in a long
+		 */
+		final long chunk;
+		private final List<long[]> shared;
+		private final List<long[]> pows = new ArrayList<>();
+		private final List<long[]> reciprocals = new ArrayList<>();
+
+		Powers(int radix) {
+			this.radix = radix;
+			int d = 0;
+			long c = 1;
+			while (c <= Long.MAX_VALUE / radix) {
+				c *= radix;
+				d++;
+			}
+			digits = d;
+			chunk = c;
+			shared = CACHE.computeIfAbsent(radix, (k) -> new ArrayList<>());
+			synchronized (shared) {
+				if (shared.isEmpty()) {
+					shared.add(new long[] {c});
+				}
+				pows.addAll(shared);
+			}
+		}
+
+		/**
+		 * @param level
+		 * @return chunk^(2^level)
+		 */
+		long[] get(int level) {
+			while (pows.size() <= level) {
+				long [] p = pows.get(pows.size() - 1);
+				long [] sq = Multiply.multiply(p, p);
+				pows.add(sq);
+				if (sq.length <= CACHED_POWER_LIMBS) {
+					synchronized (shared) {
+						if (shared.size() == pows.size() - 1) {
+							shared.add(sq);
+						}
+					}
+				}
+			}
+			return pows.get(level);
+		}
+
+		/**
+		 * @param level
+		 * @return B^(2n) / chunk^(2^level) rounded down, where the power has n limbs
+		 */
+		long[] reciprocal(int level) {
+			while (reciprocals.size() <= level) {
+				int l = reciprocals.size();
+				long [] d = get(l);
+				long [] b = new long[(d.length << 1) + 1];
+				b[d.length << 1] = 1L;
+				if (l == 0 || d.length < Divide.BZ_LIMBS) {
+					reciprocals.add(Divide.divideAndRemainder(b, d)[0]);
+				} else {
+					reciprocals.add(newton(d, b, reciprocals.get(l - 1), get(l - 1).length));
+				}
+			}
+			return reciprocals.get(level);
+		}
+
+		/**
+		 * Since the power is the square of the power below it, the square of
+		 * the reciprocal below is a estimate from below with about half of the limbs
+		 * right, a Newton step doubles that, and the few units left are a short division.
+		 * @param d the power with n limbs
+		 * @param b B^(2n)
+		 * @param m the reciprocal of the power below
+		 * @param k the number of limbs in the power below
+		 * @return B^(2n) / d rounded down
+		 */
+		private static long[] newton(long [] d, long [] b, long [] m, int k) {
+			int n = d.length;
+			long [] x = Multiply.slice(Multiply.multiply(m, m), 4 * k - 2 * n, 4 * k + 2);
+			long [] r = Limbs.subtract(b, Multiply.multiply(d, x));
+			//the step is about B^(k+1), so k + 3 of the top limbs of x and r are enough
+			int sx = Math.max(0, x.length - k - 3);
+			int sr = Math.max(0, r.length - k - 3);
+			long [] step = Multiply.multiply(Multiply.slice(x, sx, x.length), Multiply.slice(r, sr, r.length));
+			x = Limbs.add(x, Multiply.slice(step, 2 * n - sx - sr, Integer.MAX_VALUE));
+			r = Limbs.subtract(b, Multiply.multiply(d, x));
+			return Limbs.add(x, Divide.divideAndRemainder(r, d)[0]);
+		}
+
+		/**
+		 * @param level
+		 * @return the number of digits in chunk^(2^level), less one
+		 */
+		long digits(int level) {
+			return (long) digits << level;
+		}
+
+		/**
+		 * @param length a number of digits
+		 * @return the largest level with less digits than the length,
+		 *   or -1 when the length is one chunk or less
+		 */
+		int level(long length) {
+			int level = -1;
+			while (digits(level + 1) < length) {
+				level++;
+			}
+			return level;
+		}
+	}
+
+	private static class ParseTask extends RecursiveTask<long[]> {
+		private static final long serialVersionUID = 1L;
+		private final transient CharSequence s;
+		private final int from;
+		private final int to;
+		private final transient Powers p;
+
+		ParseTask(CharSequence s, int from, int to, Powers p) {
+			this.s = s;
+			this.from = from;
+			this.to = to;
+			this.p = p;
+		}
+
+		@Override
+		protected long[] compute() {
+			if (to - from <= LEAF_LIMBS * p.digits) {
+				return leaf(s, from, to, p);
+			}
+			int level = p.level(to - from);
+			int mid = (int) (to - p.digits(level));
+			ParseTask hi = new ParseTask(s, from, mid, p);
+			ParseTask lo = new ParseTask(s, mid, to, p);
+			long [] h;
+			long [] l;
+			if (to - from >= FORK_DIGITS) {
+				hi.fork();
+				l = lo.compute();
+				h = hi.join();
+			} else {
+				h = hi.compute();
+				l = lo.compute();
+			}
+			return Limbs.add(Multiply.multiply(h, p.get(level)), l);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package org.adligo.math.shared.huge;
+
+/**
+ * Precomputed modular reduction for a single modulus, over limb magnitudes
+ * (see {@link Limbs}).  Values are multiplied in the reducer's form, 
+ * see {@link #toForm(long[])} and {@link #fromForm(long[])}, 
+ * so repeated products don't need a full division.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+abstract class Reducer {
+	protected final long [] m;
+	
+	/**
+	 * @param m a normalized magnitude greater than one
+	 * @return Montgomery for odd moduli, otherwise Barrett
+	 */
+	static Reducer newReducer(long [] m) {
+		if ((m[0] & 1L) != 0L) {
+			return new MontgomeryReducer(m);
+		}
+		return new BarrettReducer(m);
+	}
+	
+	Reducer(long [] m) {
+		this.m = m;
+	}
+	
+	long[] getModulus() {
+		return m;
+	}
+	
+	/**
+	 * @param x any magnitude
+	 * @return x mod m
+	 */
+	long[] mod(long [] x) {
+		return Divide.remainder(x, m);
+	}
+	
+	/**
+	 * @param a less than m
+	 * @param b less than m
+	 * @return a * b mod m, for a single product of normal magnitudes
+	 */
+	long[] modMultiply(long [] a, long [] b) {
+		return mod(Multiply.multiply(a, b));
+	}
+	
+	/**
+	 * @param x less than m
+	 * @return x in this reducer's form
+	 */
+	abstract long[] toForm(long [] x);
+	
+	/**
+	 * @param x in this reducer's form
+	 * @return x as a normal magnitude less than m
+	 */
+	abstract long[] fromForm(long [] x);
+	
+	/**
+	 * @param a in this reducer's form
+	 * @param b in this reducer's form
+	 * @return a * b mod m in this reducer's form
+	 */
+	abstract long[] multiply(long [] a, long [] b);
+	
+	/**
+	 * @return one in this reducer's form
+	 */
+	abstract long[] one();
+	
+	long[] square(long [] a) {
+		return multiply(a, a);
+	}
+	
+}
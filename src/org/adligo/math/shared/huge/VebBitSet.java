@@ -0,0 +1,484 @@
+package org.adligo.math.shared.huge;
+
+import java.io.File;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A Van Emde Boas style bit set over the universe 0 to universe - 1, 
+ * for successor and predecessor searches of sparse bits.
+ * The bits are kept in 64 bit words, and each summary level has one bit 
+ * for each word of the level below it, which is set when that word isn't zero.
+ * So each operation reads or writes at most one word per level, and there 
+ * are ceil(log<sub>64</sub> universe) levels; 6 levels for 2<sup>36</sup> bits.
+ * The summaries add less than 1/63 to the size of the bits.<br/>
+ * The levels can be kept on the heap, or off heap in direct buffers or 
+ * memory mapped temporary files, where only the segments of a level 
+ * with set words are allocated, so a sparse set costs about a segment 
+ * per level for each cluster of bits.  Close the off heap and external 
+ * sets to release them before they are garbage collected.
+ * This class is NOT thread safe.
+ * <pre><code>
+ * try (VebBitSet used = VebBitSet.offHeap(1L &lt;&lt; 34)) {
+ *   used.insert(id);
+ *   long next = used.successor(id);
+ * }
+ * </code></pre>
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class VebBitSet implements AutoCloseable {
+	public static final String THE_UNIVERSE_MUST_BE_POSITIVE = "The universe must be positive!";
+	public static final String THE_UNIVERSE_IS_TOO_LARGE_FOR_THE_HEAP = "The universe is too large for the heap, use offHeap or external!";
+	public static final String THE_INDEX_MUST_BE_IN_THE_UNIVERSE = "The index must be from zero to the universe - 1!";
+	public static final String THE_BIT_SET_IS_CLOSED = "The bit set is closed!";
+	/**
+	 * the result of a search that found nothing
+	 */
+	public static final long NONE = -1L;
+	
+	/**
+	 * @param universe
+	 * @return a bit set which keeps it's levels in direct ByteBuffers
+	 */
+	public static VebBitSet offHeap(long universe) {
+		return new VebBitSet(universe, Storage.OFF_HEAP);
+	}
+	
+	/**
+	 * @param universe
+	 * @return a bit set which keeps it's levels in memory mapped temporary files
+	 */
+	public static VebBitSet external(long universe) {
+		return new VebBitSet(universe, Storage.EXTERNAL);
+	}
+	
+	private final long universe;
+	/**
+	 * the bits at 0 and the summaries above them, the last level is a single word
+	 */
+	private final Level [] levels;
+	private long size;
+	
+	/**
+	 * a bit set which keeps it's levels on the heap
+	 * @param universe the number of bits
+	 */
+	public VebBitSet(long universe) {
+		this(universe, Storage.HEAP);
+	}
+	
+	private VebBitSet(long universe, Storage storage) {
+		if (universe <= 0) {
+			throw new IllegalArgumentException(THE_UNIVERSE_MUST_BE_POSITIVE);
+		}
+		this.universe = universe;
+		int count = 1;
+		for (long words = words(universe); words > 1; words = words(words)) {
+			count++;
+		}
+		levels = new Level[count];
+		long bits = universe;
+		for (int i = 0; i < count; i++) {
+			long words = words(bits);
+			switch (storage) {
+				case HEAP:
+					if (words > Integer.MAX_VALUE - 8) {
+						throw new IllegalArgumentException(THE_UNIVERSE_IS_TOO_LARGE_FOR_THE_HEAP);
+					}
+					levels[i] = new HeapLevel((int) words);
+					break;
+				case OFF_HEAP:
+					levels[i] = new DirectLevel(words);
+					break;
+				default:
+					levels[i] = new MappedLevel(words);
+			}
+			bits = words;
+		}
+	}
+	
+	private static long words(long bits) {
+		return (bits + 63) >>> 6;
+	}
+	
+	public long getUniverse() {
+		return universe;
+	}
+	
+	/**
+	 * @return the number of set bits
+	 */
+	public long size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	/**
+	 * @param index
+	 * @return true if the bit was added, false if it was already set
+	 */
+	public boolean insert(long index) {
+		check(index);
+		for (int i = 0; i < levels.length; i++) {
+			Level l = levels[i];
+			long w = index >>> 6;
+			long bit = 1L << index;
+			long word = l.get(w);
+			if ((word & bit) != 0L) {
+				//only happens at level 0, as summaries are set with their first bit
+				return false;
+			}
+			l.set(w, word | bit);
+			if (i == 0) {
+				size++;
+			}
+			if (word != 0L) {
+				break;
+			}
+			index = w;
+		}
+		return true;
+	}
+	
+	/**
+	 * @param index
+	 * @return true if the bit was removed, false if it wasn't set
+	 */
+	public boolean delete(long index) {
+		check(index);
+		for (int i = 0; i < levels.length; i++) {
+			Level l = levels[i];
+			long w = index >>> 6;
+			long bit = 1L << index;
+			long word = l.get(w);
+			if ((word & bit) == 0L) {
+				return false;
+			}
+			word &= ~bit;
+			l.set(w, word);
+			if (i == 0) {
+				size--;
+			}
+			if (word != 0L) {
+				break;
+			}
+			index = w;
+		}
+		return true;
+	}
+	
+	/**
+	 * @param index
+	 * @return true when the bit is set
+	 */
+	public boolean member(long index) {
+		check(index);
+		return (levels[0].get(index >>> 6) & (1L << index)) != 0L;
+	}
+	
+	/**
+	 * @return the smallest set bit, or {@link #NONE}
+	 */
+	public long min() {
+		return size == 0 ? NONE : descendLowest(levels.length - 1, 0L);
+	}
+	
+	/**
+	 * @return the largest set bit, or {@link #NONE}
+	 */
+	public long max() {
+		return size == 0 ? NONE : descendHighest(levels.length - 1, 0L);
+	}
+	
+	/**
+	 * @param index any long, so that successor(-1) is the {@link #min()}
+	 * @return the smallest set bit greater than index, or {@link #NONE}
+	 */
+	public long successor(long index) {
+		if (index < -1L) {
+			index = -1L;
+		} else if (index >= universe - 1) {
+			return NONE;
+		}
+		long x = index + 1;
+		for (int i = 0; i < levels.length; i++) {
+			long w = x >>> 6;
+			long word = levels[i].get(w) & (-1L << x);
+			if (word != 0L) {
+				return descendLowest(i - 1, (w << 6) + Long.numberOfTrailingZeros(word));
+			} else if (i + 1 == levels.length) {
+				return NONE;
+			}
+			x = w + 1;
+		}
+		return NONE;
+	}
+	
+	/**
+	 * @param index any long, so that predecessor(universe) is the {@link #max()}
+	 * @return the largest set bit less than index, or {@link #NONE}
+	 */
+	public long predecessor(long index) {
+		if (index <= 0) {
+			return NONE;
+		} else if (index > universe) {
+			index = universe;
+		}
+		long x = index - 1;
+		for (int i = 0; i < levels.length; i++) {
+			long w = x >>> 6;
+			long word = levels[i].get(w) & (-1L >>> (63 - (x & 63)));
+			if (word != 0L) {
+				return descendHighest(i - 1, (w << 6) + 63 - Long.numberOfLeadingZeros(word));
+			} else if (w == 0L) {
+				return NONE;
+			}
+			x = w - 1;
+		}
+		return NONE;
+	}
+	
+	/**
+	 * @param level the level below the set summary bit
+	 * @param index the set bit at level + 1
+	 * @return the lowest set bit at level 0 under it
+	 */
+	private long descendLowest(int level, long index) {
+		for (int i = level; i >= 0; i--) {
+			index = (index << 6) + Long.numberOfTrailingZeros(levels[i].get(index));
+		}
+		return index;
+	}
+	
+	/**
+	 * @see #descendLowest(int, long)
+	 */
+	private long descendHighest(int level, long index) {
+		for (int i = level; i >= 0; i--) {
+			index = (index << 6) + 63 - Long.numberOfLeadingZeros(levels[i].get(index));
+		}
+		return index;
+	}
+	
+	/**
+	 * releases the direct buffers or temporary files of the levels 
+	 * now, instead of when the bit set is garbage collected, 
+	 * a closed off heap or external bit set can't be used
+	 */
+	@Override
+	public void close() {
+		for (Level l : levels) {
+			l.close();
+		}
+	}
+	
+	private void check(long index) {
+		if (index < 0 || index >= universe) {
+			throw new IllegalArgumentException(THE_INDEX_MUST_BE_IN_THE_UNIVERSE);
+		}
+	}
+	
+	private enum Storage {
+		HEAP, OFF_HEAP, EXTERNAL
+	}
+	
+	/**
+	 * the words of one level, which read as zero until they are set
+	 */
+	private static abstract class Level {
+		abstract long get(long index);
+		
+		abstract void set(long index, long word);
+		
+		void close() {}
+	}
+	
+	private static class HeapLevel extends Level {
+		private final long [] words;
+		
+		HeapLevel(int words) {
+			this.words = new long[words];
+		}
+		
+		@Override
+		long get(long index) {
+			return index < words.length ? words[(int) index] : 0L;
+		}
+		
+		@Override
+		void set(long index, long word) {
+			words[(int) index] = word;
+		}
+	}
+	
+	/**
+	 * The words in segments which are allocated when the first word in 
+	 * them is set, so reading the words of a missing segment costs nothing.
+	 * The segments are in a array when there are at most {@link #TABLE_SEGMENTS}
+	 * of them, and a map otherwise.
+	 */
+	private static abstract class BufferLevel extends Level {
+		static final int TABLE_SEGMENTS = 1 << 20;
+		private final long words;
+		private final int segmentShift;
+		private final int segmentMask;
+		private ByteBuffer [] table;
+		private Map<Long, ByteBuffer> segments;
+		private boolean closed = false;
+		/**
+		 * the last segment read or written, as most searches stay in one segment
+		 */
+		private long lastSegment = -1L;
+		private ByteBuffer last;
+		
+		BufferLevel(long words, int segmentShift) {
+			this.words = words;
+			this.segmentShift = segmentShift;
+			segmentMask = (1 << segmentShift) - 1;
+			long count = (words + segmentMask) >>> segmentShift;
+			if (count <= TABLE_SEGMENTS) {
+				table = new ByteBuffer[(int) count];
+			} else {
+				segments = new HashMap<>();
+			}
+		}
+		
+		/**
+		 * @param segment
+		 * @param bytes
+		 * @return a zero filled buffer of bytes
+		 */
+		abstract ByteBuffer allocate(long segment, int bytes);
+		
+		/**
+		 * @param segment
+		 * @return the segment or null when no word in it has been set
+		 */
+		private ByteBuffer segment(long segment) {
+			if (segment != lastSegment) {
+				if (closed) {
+					throw new IllegalStateException(THE_BIT_SET_IS_CLOSED);
+				}
+				ByteBuffer b = table != null ? table[(int) segment] : segments.get(segment);
+				if (b == null) {
+					return null;
+				}
+				lastSegment = segment;
+				last = b;
+			}
+			return last;
+		}
+		
+		/**
+		 * @param index
+		 * @return the word, or 0 past the end of the level 
+		 *   where a search runs off the last word
+		 */
+		@Override
+		long get(long index) {
+			if (index >= words) {
+				return 0L;
+			}
+			ByteBuffer b = segment(index >>> segmentShift);
+			return b == null ? 0L : b.getLong(((int) index & segmentMask) << 3);
+		}
+		
+		@Override
+		void set(long index, long word) {
+			long s = index >>> segmentShift;
+			ByteBuffer b = segment(s);
+			if (b == null) {
+				if (word == 0L) {
+					return;
+				}
+				b = allocate(s, 8 << segmentShift);
+				b.order(ByteOrder.nativeOrder());
+				if (table != null) {
+					table[(int) s] = b;
+				} else {
+					segments.put(s, b);
+				}
+				lastSegment = s;
+				last = b;
+			}
+			b.putLong(((int) index & segmentMask) << 3, word);
+		}
+		
+		@Override
+		void close() {
+			closed = true;
+			table = null;
+			segments = null;
+			lastSegment = -1L;
+			last = null;
+		}
+	}
+	
+	/**
+	 * 32 KB direct buffers, which are zero filled when they are allocated
+	 */
+	private static class DirectLevel extends BufferLevel {
+		
+		DirectLevel(long words) {
+			super(words, 12);
+		}
+		
+		@Override
+		ByteBuffer allocate(long segment, int bytes) {
+			return ByteBuffer.allocateDirect(bytes);
+		}
+	}
+	
+	/**
+	 * 1 MB mappings of a temporary file, appended in the order the 
+	 * segments are allocated, so the file only grows with the set words
+	 */
+	private static class MappedLevel extends BufferLevel {
+		private final File file;
+		private final Cleaner.Cleanable cleanable;
+		private long mapped = 0;
+		
+		MappedLevel(long words) {
+			super(words, 17);
+			file = MappedLimbs.newTempFile("vebBitSet");
+			cleanable = MappedLimbs.deleteWhenUnreachable(this, file);
+		}
+		
+		@Override
+		ByteBuffer allocate(long segment, int bytes) {
+			return MappedLimbs.map(file, bytes * mapped++, bytes);
+		}
+		
+		@Override
+		void close() {
+			super.close();
+			cleanable.clean();
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package org.adligo.math.shared;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.adligo.i_math.shared.I_EgcdResult;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the long, Lehmer and half gcd tiers of {@link MathCtx#egcd(BigInteger, BigInteger)},
+ * which follow the same quotients as the textbook euclidean algorithm, 
+ * so their cofactors must be identical to it's cofactors.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class EgcdTest {
+  private final MathCtx ctx = new MathCtx();
+
+  @Test
+  public void testLongs() {
+    Random r = new Random(26);
+    for (int i = 0; i < 2000; i++) {
+      long a = r.nextLong() >>> r.nextInt(63);
+      long b = r.nextLong() >>> r.nextInt(63);
+      if (i % 3 == 0) {
+        a = -a;
+      }
+      checkLongs(a, b);
+    }
+  }
+
+  @Test
+  public void testLongEdges() {
+    long [] edges = {0L, 1L, -1L, 2L, -2L, 6L, -9L, 1L << 62, -(1L << 62), Long.MIN_VALUE, 
+        Long.MIN_VALUE + 1L, Long.MAX_VALUE, Long.MAX_VALUE - 1L, 0x5555555555555555L, -0x3333333333333333L};
+    for (long a : edges) {
+      for (long b : edges) {
+        checkLongs(a, b);
+      }
+    }
+    Random r = new Random(29);
+    for (int i = 0; i < 2000; i++) {
+      long a = r.nextLong() >> r.nextInt(63);
+      long b = r.nextLong() >> r.nextInt(63);
+      checkLongs(a, i % 5 == 0 ? 0L : b);
+    }
+  }
+
+  @Test
+  public void testLehmer() {
+    Random r = new Random(27);
+    for (int bits : new int [] {64, 65, 200, 1000, HalfGcd.HGCD_BITS}) {
+      for (int i = 0; i < 10; i++) {
+        check(new BigInteger(bits, r).add(BigInteger.ONE), new BigInteger(bits - r.nextInt(20), r).add(BigInteger.ONE));
+      }
+    }
+  }
+
+  @Test
+  public void testHalfGcd() {
+    Random r = new Random(28);
+    for (int bits : new int [] {HalfGcd.HGCD_BITS + 1, 20_000, 40_000}) {
+      BigInteger a = new BigInteger(bits, r).setBit(bits - 1);
+      BigInteger b = new BigInteger(bits - 100, r).setBit(bits - 101);
+      check(a, b);
+      BigInteger g = new BigInteger(bits / 2, r).setBit(bits / 2 - 1);
+      check(a.multiply(g), b.multiply(g));
+      check(a, a.subtract(BigInteger.ONE));
+      check(a.multiply(BigInteger.TEN), a);
+      check(a.multiply(b), b);
+    }
+  }
+
+  private void checkLongs(long a, long b) {
+    LongEgcdResult l = ctx.egcd(a, b);
+    I_EgcdResult e = ctx.euclid(BigInteger.valueOf(a), BigInteger.valueOf(b));
+    assertEquals(e.getBca(), l.getBca(), a + " " + b);
+    assertEquals(e.getBcb(), l.getBcb(), a + " " + b);
+    assertEquals(e.getResult(), l.getResult(), a + " " + b);
+    assertEquals(e.getResult().longValue(), l.getResultLong(), a + " " + b);
+    I_EgcdResult t = ctx.egcd(BigInteger.valueOf(a), BigInteger.valueOf(b));
+    assertEquals(e.getBca(), t.getBca(), a + " " + b);
+    assertEquals(e.getBcb(), t.getBcb(), a + " " + b);
+    assertEquals(e.getResult(), t.getResult(), a + " " + b);
+  }
+
+  private void check(BigInteger a, BigInteger b) {
+    if (a.compareTo(b) < 0) {
+      BigInteger t = a;
+      a = b;
+      b = t;
+    }
+    I_EgcdResult e = ctx.euclid(a, b);
+    I_EgcdResult h = ctx.egcd(a, b);
+    assertEquals(a.gcd(b), h.getResult());
+    assertEquals(e.getResult(), h.getResult());
+    assertEquals(e.getBca(), h.getBca(), a.bitLength() + " " + b.bitLength());
+    assertEquals(e.getBcb(), h.getBcb(), a.bitLength() + " " + b.bitLength());
+    assertEquals(h.getResult(), a.multiply(h.getBca()).add(b.multiply(h.getBcb())));
+  }
+}
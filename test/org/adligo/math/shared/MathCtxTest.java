@@ -0,0 +1,132 @@
+package org.adligo.math.shared;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.adligo.math.shared.huge.ModCtx;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the LRU cache of ModCtxs, it's statistics, and the 
+ * modular arithmetic through it against BigInteger.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class MathCtxTest {
+
+  @Test
+  public void testHitsAndMisses() {
+    MathCtx ctx = new MathCtx(4);
+    assertEquals(4, ctx.getModCtxCacheSize());
+    assertEquals(MathCtx.DEFAULT_MOD_CTX_CACHE_SIZE, new MathCtx().getModCtxCacheSize());
+    BigInteger m = BigInteger.valueOf(1_000_003);
+    ModCtx a = ctx.getModCtx(m);
+    assertEquals(0, ctx.getModCtxHits());
+    assertEquals(1, ctx.getModCtxMisses());
+    assertSame(a, ctx.getModCtx(m));
+    assertSame(a, ctx.getModCtx(new BigInteger("1000003")));
+    assertEquals(2, ctx.getModCtxHits());
+    assertEquals(1, ctx.getModCtxMisses());
+    ctx.getModCtx(m.add(BigInteger.ONE));
+    assertEquals(2, ctx.getModCtxHits());
+    assertEquals(2, ctx.getModCtxMisses());
+  }
+
+  @Test
+  public void testEviction() {
+    MathCtx ctx = new MathCtx(3);
+    BigInteger [] m = new BigInteger[5];
+    ModCtx [] c = new ModCtx[m.length];
+    for (int i = 0; i < m.length; i++) {
+      m[i] = BigInteger.valueOf(101 + 2 * i);
+    }
+    for (int i = 0; i < 3; i++) {
+      c[i] = ctx.getModCtx(m[i]);
+    }
+    // touches m[0], so m[1] is the least recently used
+    assertSame(c[0], ctx.getModCtx(m[0]));
+    c[3] = ctx.getModCtx(m[3]);
+    assertEquals(4, ctx.getModCtxMisses());
+    assertSame(c[0], ctx.getModCtx(m[0]));
+    assertSame(c[2], ctx.getModCtx(m[2]));
+    assertSame(c[3], ctx.getModCtx(m[3]));
+    assertEquals(4, ctx.getModCtxMisses());
+    assertNotSame(c[1], ctx.getModCtx(m[1]));
+    assertEquals(5, ctx.getModCtxMisses());
+    // m[1] pushed out m[0], which was used the longest ago
+    ctx.getModCtx(m[0]);
+    assertEquals(6, ctx.getModCtxMisses());
+    assertEquals(4, ctx.getModCtxHits());
+  }
+
+  @Test
+  public void testTheCacheSizeMustBePositive() {
+    IllegalArgumentException x = assertThrows(IllegalArgumentException.class, () -> new MathCtx(0));
+    assertEquals(MathCtx.THE_MOD_CTX_CACHE_SIZE_MUST_BE_POSITIVE, x.getMessage());
+  }
+
+  @Test
+  public void testModArithmeticThroughTheCache() {
+    Random r = new Random(14);
+    MathCtx ctx = new MathCtx(2);
+    for (int bits : new int [] {2, 17, 64, 65, 200, 1000, 3000}) {
+      // odd moduli use Montgomery and even ones Barrett
+      for (BigInteger m : new BigInteger [] {new BigInteger(bits, r).setBit(bits - 1).setBit(0), 
+          new BigInteger(bits, r).setBit(bits - 1).clearBit(0)}) {
+        for (int i = 0; i < 5; i++) {
+          BigInteger a = new BigInteger(bits + 20, r);
+          BigInteger b = new BigInteger(bits, r);
+          BigInteger e = new BigInteger(1 + r.nextInt(300), r);
+          assertEquals(a.modPow(e, m), ctx.modPow(a, e, m), m.toString());
+          assertEquals(a.multiply(b).mod(m), ctx.modMultiply(a, b, m), m.toString());
+        }
+        assertEquals(BigInteger.ONE.mod(m), ctx.modPow(m.add(BigInteger.TWO), BigInteger.ZERO, m));
+        BigInteger [] values = new BigInteger[20];
+        for (int i = 0; i < values.length; i++) {
+          values[i] = new BigInteger(bits + 5, r);
+        }
+        values[3] = m;
+        values[7] = m.multiply(BigInteger.TEN);
+        BigInteger [] inverses = ctx.modInverse(values, m);
+        for (int i = 0; i < values.length; i++) {
+          if (values[i].gcd(m).equals(BigInteger.ONE)) {
+            assertEquals(values[i].modInverse(m), inverses[i], m + " " + values[i]);
+          } else {
+            assertNull(inverses[i], m + " " + values[i]);
+          }
+        }
+        assertEquals(Arrays.asList(inverses), Arrays.asList(ctx.modInverse(Arrays.stream(values), m)));
+      }
+    }
+    // each modulus misses once, then every call above hits
+    assertEquals(14, ctx.getModCtxMisses());
+    assertEquals(14 * (5 * 2 + 3) - 14, ctx.getModCtxHits());
+  }
+}
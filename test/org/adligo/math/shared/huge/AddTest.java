@@ -0,0 +1,86 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks the streaming {@link AddStream} and signed adds 
+ * of every kind of operand against BigInteger.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class AddTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testAddStream() {
+		Random r = new Random(5);
+		for (int x : Values.BITS) {
+			for (int y : Values.BITS) {
+				BigInteger a = new BigInteger(x, r);
+				BigInteger b = new BigInteger(y, r);
+				AddStream s = new AddStream(new LimbCursor(new LimbDelegate(Limbs.fromBig(a), false), true), 
+						new LimbCursor(new LimbDelegate(Limbs.fromBig(b), false), true));
+				assertEquals(a.add(b), HugeInt.valueOf(s, false).toBig(), x + " + " + y);
+				assertFalse(s.hasNext());
+				assertThrows(NoSuchElementException.class, () -> s.next());
+			}
+		}
+	}
+
+	@Test
+	public void testAddStreamCarriesThroughAllOnes() {
+		BigInteger ones = BigInteger.ONE.shiftLeft(64 * 5).subtract(BigInteger.ONE);
+		AddStream s = new AddStream(new LimbCursor(new LimbDelegate(Limbs.fromBig(ones), false), true), 
+				new LimbCursor(1L));
+		assertEquals(BigInteger.ONE.shiftLeft(64 * 5), HugeInt.valueOf(s, false).toBig());
+	}
+
+	@Test
+	public void testAddOfEachKind() {
+		Random r = new Random(6);
+		for (Values.Kind ka : Values.Kind.values()) {
+			for (Values.Kind kb : Values.Kind.values()) {
+				for (int i = 0; i < 30; i++) {
+					BigInteger a = Values.signed(r, Values.BITS[r.nextInt(Values.BITS.length)]);
+					BigInteger b = r.nextInt(5) == 0 ? a.negate() : 
+						Values.signed(r, Values.BITS[r.nextInt(Values.BITS.length)]);
+					HugeInt ha = Values.of(ka, a, dir);
+					HugeInt hb = Values.of(kb, b, dir);
+					assertEquals(a.add(b), ((HugeInt) ha.add(hb)).toBig(), ka + " " + kb);
+					assertEquals(a.add(b), ((HugeInt) ha.addParallel(hb)).toBig(), ka + " " + kb);
+				}
+			}
+		}
+	}
+}
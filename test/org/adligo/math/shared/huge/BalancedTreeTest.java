@@ -0,0 +1,78 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks the balanced tree sum and product against a BigInteger fold.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class BalancedTreeTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testEmpty() {
+		assertEquals(BigInteger.ZERO, HugeInt.sum(Stream.empty()).toBig());
+		assertEquals(BigInteger.ONE, HugeInt.product(Stream.empty()).toBig());
+	}
+
+	@Test
+	public void testSumAndProduct() {
+		Random r = new Random(32);
+		Values.Kind [] kinds = Values.Kind.values();
+		for (int n : new int [] {1, 2, 3, BalancedTree.SUM_LEAF_VALUES, BalancedTree.SUM_LEAF_VALUES * 2 + 1}) {
+			List<HugeInt> values = new ArrayList<>();
+			BigInteger sum = BigInteger.ZERO;
+			BigInteger product = BigInteger.ONE;
+			for (int i = 0; i < n; i++) {
+				BigInteger b = Values.signed(r, 1 + r.nextInt(i % 50 == 0 ? 5000 : 100));
+				values.add(Values.of(kinds[i % kinds.length], b, dir));
+				sum = sum.add(b);
+				product = product.multiply(b);
+			}
+			assertEquals(sum, HugeInt.sum(values.stream()).toBig(), "" + n);
+			assertEquals(product, HugeInt.product(values.stream()).toBig(), "" + n);
+		}
+	}
+
+	@Test
+	public void testFactorial() {
+		BigInteger f = BigInteger.ONE;
+		for (int i = 2; i <= 3000; i++) {
+			f = f.multiply(BigInteger.valueOf(i));
+		}
+		assertEquals(f, HugeInt.product(LongStream.rangeClosed(1, 3000).mapToObj(HugeInt::new)).toBig());
+	}
+}
@@ -0,0 +1,83 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.adligo.math.shared.MathCtx;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the batch modular inverse against BigInteger.modInverse,
+ * for batches on one task and split over the fork join pool.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class BatchInverseTest {
+	private final MathCtx ctx = new MathCtx();
+
+	@Test
+	public void testPrimeModulus() {
+		Random r = new Random(29);
+		BigInteger p = BigInteger.probablePrime(200, r);
+		for (int n : new int [] {1, 2, BatchInverse.LEAF_VALUES, BatchInverse.LEAF_VALUES * 3 + 1}) {
+			BigInteger [] values = new BigInteger[n];
+			for (int i = 0; i < n; i++) {
+				values[i] = Values.signed(r, 1 + r.nextInt(400));
+			}
+			values[0] = p.multiply(BigInteger.valueOf(3));
+			check(values, p, ctx.modInverse(values, p));
+		}
+	}
+
+	@Test
+	public void testZeroDivisors() {
+		Random r = new Random(30);
+		for (int bits : new int [] {64, 130, 2000}) {
+			for (BigInteger m : new BigInteger [] {new BigInteger(bits, r).setBit(bits - 1).setBit(0),
+					new BigInteger(bits, r).setBit(bits - 1).clearBit(0)}) {
+				BigInteger [] values = new BigInteger[BatchInverse.LEAF_VALUES + 10];
+				for (int i = 0; i < values.length; i++) {
+					values[i] = i % 7 == 0 ? m.gcd(BigInteger.valueOf(i)).multiply(BigInteger.valueOf(i + 1)) 
+							: Values.signed(r, bits + 10);
+				}
+				values[1] = BigInteger.ZERO;
+				values[2] = m;
+				check(values, m, ctx.modInverse(values, m));
+			}
+		}
+	}
+
+	private static void check(BigInteger [] values, BigInteger m, BigInteger [] inverses) {
+		assertEquals(values.length, inverses.length);
+		for (int i = 0; i < values.length; i++) {
+			if (values[i].gcd(m).equals(BigInteger.ONE)) {
+				assertEquals(values[i].modInverse(m), inverses[i], "" + i);
+			} else {
+				assertNull(inverses[i], "" + i);
+			}
+		}
+	}
+}
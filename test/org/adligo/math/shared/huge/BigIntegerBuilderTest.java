@@ -0,0 +1,99 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.adligo.i_math.shared.huge.HugeConstants;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that split slices the same chunks as the hex string split it replaced,
+ * see {@link SplitBenchmark} for the times of each.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class BigIntegerBuilderTest {
+	static final int CHUNK_BITS = HugeConstants.MAX_CHUNK_BYTES * 8;
+
+	/**
+	 * the split before the byte windows, which copied the rest of the hex 
+	 * string for each chunk, with the sign moved to the most significant chunk
+	 * @param b
+	 * @return the chunks from little to big
+	 */
+	static List<BigInteger> hexSplit(BigInteger b) {
+		String hexString = b.abs().toString(16);
+		List<BigInteger> rl = new ArrayList<>();
+		while (hexString.length() / 2 >= HugeConstants.MAX_CHUNK_BYTES) {
+			String littleHex = hexString.substring(hexString.length() - (HugeConstants.MAX_CHUNK_BYTES * 2), 
+					hexString.length());
+			rl.add(new BigInteger(littleHex, 16));
+			hexString = hexString.substring(0, hexString.length() - (HugeConstants.MAX_CHUNK_BYTES * 2));
+		}
+		if (hexString.length() >= 1) {
+			rl.add(new BigInteger(hexString, 16));
+		}
+		if (b.signum() < 0) {
+			rl.set(rl.size() - 1, rl.get(rl.size() - 1).negate());
+		}
+		return rl;
+	}
+
+	@Test
+	public void testSplitMatchesTheHexSplit() {
+		Random r = new Random(25);
+		for (int t = 0; t < 2000; t++) {
+			BigInteger a;
+			switch (t % 3) {
+				case 0:
+					a = BigInteger.ONE.shiftLeft(r.nextInt(CHUNK_BITS * 4));
+					break;
+				case 1:
+					// fills whole chunks of hex digits
+					a = BigInteger.ONE.shiftLeft(CHUNK_BITS * (1 + r.nextInt(4))).subtract(BigInteger.ONE);
+					break;
+				default:
+					a = new BigInteger(r.nextInt(CHUNK_BITS * 4), r);
+			}
+			for (BigInteger b : new BigInteger [] {a, a.negate()}) {
+				List<BigInteger> chunks = BigIntegerBuilder.split(b).collect(Collectors.toList());
+				assertEquals(hexSplit(b), chunks, b.toString(16));
+			}
+			// the stream constructor takes positive chunks
+			assertEquals(a, new HugeInt(BigIntegerBuilder.split(a)).toBig());
+		}
+	}
+
+	@Test
+	public void testZeroAndSize() {
+		assertEquals(List.of(BigInteger.ZERO), BigIntegerBuilder.split(BigInteger.ZERO).collect(Collectors.toList()));
+		BigInteger a = BigInteger.ONE.shiftLeft(CHUNK_BITS * 5 + 3);
+		assertEquals(6, BigIntegerBuilder.split(a).spliterator().getExactSizeIfKnown());
+		assertEquals(hexSplit(a), BigIntegerBuilder.split(a).parallel().collect(Collectors.toList()));
+	}
+}
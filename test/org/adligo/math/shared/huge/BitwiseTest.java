@@ -0,0 +1,102 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks the two's complement bitwise operations and shifts against BigInteger.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class BitwiseTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testBitwise() {
+		Random r = new Random(23);
+		for (Values.Kind kind : Values.Kind.values()) {
+			for (int bits : Values.BITS) {
+				for (int i = 0; i < 3; i++) {
+					BigInteger a = Values.signed(r, bits);
+					BigInteger b = Values.signed(r, r.nextInt(bits + 130));
+					check(a, b, kind);
+					check(b, a, kind);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testShifts() {
+		Random r = new Random(24);
+		long [] shifts = {1, 7, 63, 64, 65, 127, 1000, 4097};
+		for (Values.Kind kind : Values.Kind.values()) {
+			for (int bits : Values.BITS) {
+				BigInteger a = Values.signed(r, bits);
+				HugeInt h = Values.of(kind, a, dir);
+				for (long s : shifts) {
+					assertEquals(a.shiftLeft((int) s), h.shiftLeft(s).toBig(), kind + " " + bits + " << " + s);
+					assertEquals(a.shiftRight((int) s), h.shiftRight(s).toBig(), kind + " " + bits + " >> " + s);
+					assertEquals(a.shiftRight((int) s), h.shiftLeft(-s).toBig());
+				}
+				assertEquals(a.signum() < 0 ? BigInteger.ONE.negate() : BigInteger.ZERO, 
+						h.shiftRight(bits + 64).toBig());
+			}
+		}
+	}
+
+	/**
+	 * values past {@link HugeInt#PARALLEL_ADD_LIMBS} which are filled in parallel
+	 */
+	@Test
+	public void testParallelSizes() {
+		Random r = new Random(25);
+		int bits = HugeInt.PARALLEL_ADD_LIMBS * 64 + 100;
+		for (Values.Kind kind : new Values.Kind [] {Values.Kind.HEAP, Values.Kind.OFF_HEAP}) {
+			BigInteger a = Values.exact(r, bits);
+			BigInteger b = Values.exact(r, bits - 1000).negate();
+			check(a, b, kind);
+			check(b.negate(), a.negate(), kind);
+			HugeInt h = Values.of(kind, b, dir);
+			assertEquals(b.shiftLeft(129), h.shiftLeft(129).toBig());
+			assertEquals(b.shiftRight(129), h.shiftRight(129).toBig());
+		}
+	}
+
+	private void check(BigInteger a, BigInteger b, Values.Kind kind) {
+		HugeInt ha = Values.of(kind, a, dir);
+		HugeInt hb = Values.of(kind, b, dir);
+		String m = kind + " " + a.bitLength() + " " + b.bitLength();
+		assertEquals(a.and(b), ha.and(hb).toBig(), m);
+		assertEquals(a.or(b), ha.or(hb).toBig(), m);
+		assertEquals(a.xor(b), ha.xor(hb).toBig(), m);
+		assertEquals(a.andNot(b), ha.andNot(hb).toBig(), m);
+	}
+}
@@ -0,0 +1,100 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.adligo.math.shared.MathCtx;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the product tree CRT solver against the residues of the
+ * solution and the product of the moduli, computed with BigInteger.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class CrtCtxTest {
+	private final MathCtx ctx = new MathCtx();
+
+	@Test
+	public void testSolve() {
+		Random r = new Random(31);
+		for (int n : new int [] {1, 2, 3, 17, CrtCtx.FORK_MODULI, CrtCtx.FORK_MODULI + 3}) {
+			BigInteger [] moduli = new BigInteger[n];
+			BigInteger product = BigInteger.ONE;
+			for (int i = 0; i < n; i++) {
+				moduli[i] = BigInteger.probablePrime(20 + r.nextInt(100), r);
+				while (product.mod(moduli[i]).signum() == 0) {
+					moduli[i] = moduli[i].nextProbablePrime();
+				}
+				product = product.multiply(moduli[i]);
+			}
+			CrtCtx crt = new CrtCtx(moduli, ctx);
+			assertEquals(n, crt.size());
+			assertEquals(product, crt.getModulus().toBig());
+			for (int t = 0; t < 3; t++) {
+				BigInteger x = new BigInteger(product.bitLength() + 5, r).mod(product);
+				BigInteger [] residues = new BigInteger[n];
+				for (int i = 0; i < n; i++) {
+					//residues outside of 0 to m - 1 are reduced
+					residues[i] = x.mod(moduli[i]).add(moduli[i].multiply(BigInteger.valueOf(t - 1)));
+				}
+				assertEquals(x, crt.solve(residues).toBig(), "" + n);
+				assertEquals(x, ctx.crt(residues, moduli).toBig(), "" + n);
+			}
+		}
+	}
+
+	@Test
+	public void testCompositeModuli() {
+		BigInteger [] moduli = {BigInteger.valueOf(4), BigInteger.valueOf(9), BigInteger.valueOf(25), BigInteger.valueOf(7)};
+		CrtCtx crt = new CrtCtx(moduli, ctx);
+		for (int x = 0; x < 6300; x += 37) {
+			BigInteger [] residues = new BigInteger[moduli.length];
+			for (int i = 0; i < moduli.length; i++) {
+				residues[i] = BigInteger.valueOf(x).mod(moduli[i]);
+			}
+			assertEquals(BigInteger.valueOf(x), crt.solve(residues).toBig());
+		}
+	}
+
+	@Test
+	public void testCache() {
+		BigInteger [] moduli = {BigInteger.valueOf(3), BigInteger.valueOf(5)};
+		assertSame(ctx.getCrtCtx(moduli), ctx.getCrtCtx(moduli.clone()));
+	}
+
+	@Test
+	public void testErrors() {
+		assertThrows(IllegalArgumentException.class, () -> new CrtCtx(new BigInteger[0], ctx));
+		assertThrows(IllegalArgumentException.class, 
+				() -> new CrtCtx(new BigInteger [] {BigInteger.valueOf(3), BigInteger.ZERO}, ctx));
+		assertThrows(IllegalArgumentException.class, 
+				() -> new CrtCtx(new BigInteger [] {BigInteger.valueOf(6), BigInteger.valueOf(4)}, ctx));
+		CrtCtx crt = new CrtCtx(new BigInteger [] {BigInteger.valueOf(3), BigInteger.valueOf(5)}, ctx);
+		assertThrows(IllegalArgumentException.class, () -> crt.solve(new BigInteger [] {BigInteger.ONE}));
+	}
+}
@@ -0,0 +1,123 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the off heap limb store, and off heap values against BigInteger.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class DirectLimbsTest {
+
+	@Test
+	public void testRandomWritesAcrossSegments() {
+		try (DirectLimbs store = new DirectLimbs()) {
+			MappedLimbsTest.checkRandomWrites(store, new Random(10));
+		}
+	}
+
+	@Test
+	public void testTheLastSegmentGrows() {
+		Random r = new Random(11);
+		try (DirectLimbs store = new DirectLimbs()) {
+			long [] ref = new long[100_000];
+			for (int i = 0; i < ref.length; i++) {
+				ref[i] = r.nextLong();
+				store.set(i, ref[i]);
+			}
+			assertEquals(ref.length, store.length());
+			for (int i = 0; i < ref.length; i++) {
+				assertEquals(ref[i], store.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void testTheIndexFollowsWritesAndZeroedBlocks() {
+		Random r = new Random(13);
+		for (int t = 0; t < 40; t++) {
+			try (DirectLimbs store = new DirectLimbs()) {
+				long [] ref = new long[1 + r.nextInt(BufferLimbs.INDEX_LIMBS * 10)];
+				for (int o = 0; o < 1000; o++) {
+					if (r.nextInt(50) == 0) {
+						for (int j = 0; j < ref.length; j++) {
+							ref[j] = 0L;
+							store.set(j, 0L);
+						}
+					}
+					int i = r.nextInt(ref.length);
+					long v = r.nextInt(3) == 0 ? 0L : r.nextInt(4) == 0 ? -1L : r.nextLong();
+					ref[i] = v;
+					store.set(i, v);
+					if (o % 37 == 0 || o == 999) {
+						long bitCount = 0;
+						long lowest = -1;
+						for (int j = 0; j < ref.length; j++) {
+							bitCount += Long.bitCount(ref[j]);
+							if (lowest == -1 && ref[j] != 0L) {
+								lowest = j;
+							}
+						}
+						assertEquals(bitCount, store.bitCount());
+						assertEquals(lowest, store.lowestLimb());
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testTrimAndClose() {
+		DirectLimbs store = new DirectLimbs();
+		store.set(10, 5L);
+		store.set(20, 0L);
+		assertEquals(21, store.length());
+		store.trim();
+		assertEquals(11, store.length());
+		assertEquals(64 * 10 + 3, store.bitLength());
+		store.close();
+		assertThrows(IllegalStateException.class, () -> store.get(0));
+	}
+
+	@Test
+	public void testOffHeapValues() {
+		Random r = new Random(12);
+		for (int bits : Values.BITS) {
+			BigInteger a = Values.signed(r, bits);
+			BigInteger b = Values.signed(r, bits + 70);
+			HugeInt ha = Values.of(Values.Kind.OFF_HEAP, a, null);
+			HugeInt hb = Values.of(Values.Kind.OFF_HEAP, b, null);
+			assertEquals(a, ha.toBig());
+			assertEquals(a.add(b), ((HugeInt) ha.add(hb)).toBig());
+			assertEquals(a.multiply(b), ha.multiply(hb).toBig());
+			assertEquals(a.bitCount(), ha.bitCount());
+			assertEquals(a.getLowestSetBit(), ha.getLowestSetBit());
+		}
+	}
+}
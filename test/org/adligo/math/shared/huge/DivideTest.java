@@ -0,0 +1,132 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks Knuth, Burnikel-Ziegler and the block streamed long division 
+ * against BigInteger.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class DivideTest {
+	private static final int [] LIMBS = {1, 2, 3, Divide.BZ_LIMBS - 1, Divide.BZ_LIMBS, 
+			Divide.BZ_LIMBS + Divide.BZ_OFFSET, 200, 1000, 3000};
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testLimbDivision() {
+		Random r = new Random(20);
+		for (int x : LIMBS) {
+			for (int y : LIMBS) {
+				BigInteger a = new BigInteger(x * 64, r);
+				BigInteger b = new BigInteger(y * 64, r).add(BigInteger.ONE);
+				BigInteger [] e = a.divideAndRemainder(b);
+				long [][] qr = Divide.divideAndRemainder(Limbs.fromBig(a), Limbs.fromBig(b));
+				assertEquals(e[0], Limbs.toBig(qr[0], false), x + " / " + y);
+				assertEquals(e[1], Limbs.toBig(qr[1], false), x + " % " + y);
+				assertEquals(e[1], Limbs.toBig(Divide.remainder(Limbs.fromBig(a), Limbs.fromBig(b)), false));
+			}
+		}
+	}
+
+	/**
+	 * quotient limbs of all ones and near zero remainders, where the estimates 
+	 * of the quotient limbs are corrected
+	 */
+	@Test
+	public void testCorrections() {
+		for (int y : LIMBS) {
+			BigInteger b = BigInteger.ONE.shiftLeft(y * 64).subtract(BigInteger.ONE);
+			for (int x : LIMBS) {
+				BigInteger q = BigInteger.ONE.shiftLeft(x * 64).subtract(BigInteger.ONE);
+				for (BigInteger a : new BigInteger [] {q.multiply(b), q.multiply(b).add(b.subtract(BigInteger.ONE)), 
+						q.multiply(b).subtract(BigInteger.ONE)}) {
+					long [][] qr = Divide.divideAndRemainder(Limbs.fromBig(a), Limbs.fromBig(b));
+					BigInteger [] e = a.divideAndRemainder(b);
+					assertEquals(e[0], Limbs.toBig(qr[0], false));
+					assertEquals(e[1], Limbs.toBig(qr[1], false));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testStreamedByBlocks() {
+		Random r = new Random(21);
+		for (int x : new int [] {1, Divide.STREAM_LIMBS - 1, Divide.STREAM_LIMBS * 2 + 3}) {
+			for (int y : new int [] {1, 2, 100, Divide.STREAM_LIMBS + 1}) {
+				BigInteger a = new BigInteger(x * 64, r);
+				BigInteger b = new BigInteger(y * 64, r).add(BigInteger.ONE);
+				BigInteger [] e = a.divideAndRemainder(b);
+				LimbDelegate la = new LimbDelegate(Limbs.fromBig(a), false);
+				try (DirectLimbs q = new DirectLimbs()) {
+					long [] rem = Divide.divideAndRemainder(la, Limbs.fromBig(b), q);
+					assertEquals(e[0], q.toDelegate(false).toBigInteger(), x + " / " + y);
+					assertEquals(e[1], Limbs.toBig(rem, false), x + " % " + y);
+				}
+				assertEquals(e[1], Limbs.toBig(Divide.divideAndRemainder(la, Limbs.fromBig(b), null), false));
+			}
+		}
+	}
+
+	@Test
+	public void testSignedDivisionOfEachKind() {
+		Random r = new Random(22);
+		for (Values.Kind ka : Values.Kind.values()) {
+			for (Values.Kind kb : Values.Kind.values()) {
+				for (int i = 0; i < 10; i++) {
+					BigInteger a = Values.signed(r, Values.BITS[r.nextInt(Values.BITS.length)]);
+					BigInteger b = Values.signed(r, 1 + r.nextInt(3000));
+					if (b.signum() == 0) {
+						b = BigInteger.ONE;
+					}
+					HugeInt ha = Values.of(ka, a, dir);
+					HugeInt hb = Values.of(kb, b, dir);
+					BigInteger [] e = a.divideAndRemainder(b);
+					HugeInt [] qr = ha.divideAndRemainder(hb);
+					assertEquals(e[0], qr[0].toBig(), ka + " " + kb);
+					assertEquals(e[1], qr[1].toBig(), ka + " " + kb);
+					assertEquals(e[0], ha.divide(hb).toBig());
+					assertEquals(e[1], ha.remainder(hb).toBig());
+					long d = b.longValue() == 0L ? 7L : b.longValue();
+					assertEquals(a.remainder(BigInteger.valueOf(d)).longValue(), ha.remainder(d));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testDivisionByZero() {
+		assertThrows(IllegalArgumentException.class, () -> new HugeInt(5).divide(HugeInt.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> new HugeInt(5).remainder(0L));
+	}
+}
@@ -0,0 +1,190 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.adligo.i_math.shared.huge.HugeConstants;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the accumulating buffer and it's pool against BigInteger.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class HugeIntBufferTest {
+	private static final BigInteger LIMB = BigInteger.ONE.shiftLeft(64);
+
+	@Test
+	public void testAccumulateLongsAcrossLimbs() {
+		// carries and borrows through runs of full and empty limbs
+		BigInteger [] starts = {BigInteger.ZERO, LIMB.subtract(BigInteger.ONE), 
+				LIMB.pow(3).subtract(BigInteger.ONE), LIMB.pow(3), LIMB.pow(2).negate(), 
+				LIMB.pow(3).subtract(BigInteger.ONE).negate(), BigInteger.valueOf(Long.MIN_VALUE)};
+		long [] adds = {1, -1, Long.MAX_VALUE, Long.MIN_VALUE, -Long.MAX_VALUE, 2};
+		for (BigInteger start : starts) {
+			for (long add : adds) {
+				HugeIntBuffer b = new HugeIntBuffer().set(new HugeInt(start));
+				BigInteger expected = start;
+				for (int i = 0; i < 4; i++) {
+					b.accumulate(add);
+					expected = expected.add(BigInteger.valueOf(add));
+					check(expected, b);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSignFlipsThroughZero() {
+		HugeIntBuffer b = new HugeIntBuffer();
+		BigInteger expected = BigInteger.ZERO;
+		long [] adds = {5, -10, 5, Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, 2, -1};
+		for (long add : adds) {
+			b.accumulate(add);
+			expected = expected.add(BigInteger.valueOf(add));
+			check(expected, b);
+		}
+		Random r = new Random(5);
+		for (int i = 0; i < 2000; i++) {
+			long add = r.nextInt(3) == 0 ? r.nextLong() : r.nextInt(200) - 100;
+			b.accumulate(add);
+			expected = expected.add(BigInteger.valueOf(add));
+			check(expected, b);
+		}
+	}
+
+	@Test
+	public void testAccumulateValuesAcrossBoundaries() {
+		BigInteger chunk = HugeConstants.MAX_CHUNK;
+		BigInteger [] values = {BigInteger.valueOf(Long.MAX_VALUE), BigInteger.valueOf(Long.MIN_VALUE), 
+				LIMB, LIMB.negate(), LIMB.subtract(BigInteger.ONE), chunk, chunk.add(BigInteger.ONE), 
+				chunk.negate(), LIMB.pow(5).subtract(BigInteger.ONE), LIMB.pow(5).negate()};
+		for (BigInteger start : values) {
+			for (BigInteger add : values) {
+				for (BigInteger v : new BigInteger [] {add, add.negate(), add.subtract(BigInteger.ONE)}) {
+					HugeIntBuffer b = new HugeIntBuffer().set(new HugeInt(start));
+					b.accumulate(new HugeInt(v));
+					check(start.add(v), b);
+					b.accumulate(new HugeInt(v.negate()));
+					check(start, b);
+				}
+			}
+		}
+		Random r = new Random(6);
+		HugeIntBuffer b = new HugeIntBuffer(1);
+		BigInteger expected = BigInteger.ZERO;
+		for (int i = 0; i < 500; i++) {
+			BigInteger v = Values.signed(r, Values.BITS[r.nextInt(Values.BITS.length)]);
+			b.accumulate(new HugeInt(v));
+			expected = expected.add(v);
+			check(expected, b);
+		}
+	}
+
+	@Test
+	public void testAccumulateItself() {
+		Random r = new Random(7);
+		for (int bits : Values.BITS) {
+			BigInteger v = Values.signed(r, bits);
+			HugeIntBuffer b = new HugeIntBuffer(1).set(new HugeInt(v));
+			BigInteger expected = v;
+			for (int i = 0; i < 3; i++) {
+				b.accumulate(b);
+				expected = expected.shiftLeft(1);
+				check(expected, b);
+			}
+		}
+	}
+
+	@Test
+	public void testAddIntoABuffer() {
+		Random r = new Random(8);
+		for (int bits : Values.BITS) {
+			BigInteger x = Values.signed(r, bits);
+			BigInteger y = Values.signed(r, bits + 64);
+			HugeIntBuffer a = new HugeIntBuffer().set(new HugeInt(x));
+			HugeInt b = new HugeInt(y);
+			HugeIntBuffer out = new HugeIntBuffer();
+			assertSame(out, a.add(b, out));
+			check(x.add(y), out);
+			check(x, a);
+			assertEquals(x.add(y), ((HugeInt) a.add(b)).toBig());
+
+			// other is this
+			assertSame(a, a.add(a, a));
+			check(x.shiftLeft(1), a);
+			HugeIntBuffer c = new HugeIntBuffer().set(new HugeInt(y));
+			assertSame(c, a.add(c, c));
+			check(x.shiftLeft(1).add(y), c);
+			check(x.shiftLeft(1), a);
+		}
+	}
+
+	@Test
+	public void testThePoolReusesBuffers() {
+		HugeIntBufferPool pool = new HugeIntBufferPool();
+		HugeIntBuffer a = pool.borrow();
+		a.set(new HugeInt(LIMB.pow(4)));
+		pool.release(a);
+		HugeIntBuffer b = pool.borrow();
+		assertSame(a, b);
+		check(BigInteger.ZERO, b);
+		assertNotSame(b, pool.borrow());
+
+		List<HugeIntBuffer> borrowed = new ArrayList<>();
+		for (int i = 0; i < HugeIntBufferPool.MAX_IDLE + 4; i++) {
+			borrowed.add(pool.borrow().set(i + 1));
+		}
+		for (HugeIntBuffer c : borrowed) {
+			pool.release(c);
+		}
+		for (int i = 0; i < HugeIntBufferPool.MAX_IDLE; i++) {
+			HugeIntBuffer c = pool.borrow();
+			assertSame(borrowed.get(HugeIntBufferPool.MAX_IDLE - 1 - i), c);
+			check(BigInteger.ZERO, c);
+		}
+		HugeIntBuffer fresh = pool.borrow();
+		for (HugeIntBuffer c : borrowed) {
+			assertNotSame(c, fresh);
+		}
+		assertSame(HugeIntBufferPool.local(), HugeIntBufferPool.local());
+	}
+
+	private static void check(BigInteger expected, HugeIntBuffer b) {
+		assertEquals(expected, b.toBig());
+		assertEquals(expected, b.toHugeInt().toBig());
+		HugeInt h = new HugeInt(expected);
+		assertEquals(h.isLong(), b.isLong(), expected.toString());
+		assertEquals(h.isBig(), b.isBig(), expected.toString());
+		assertEquals(expected.signum() >= 0, b.isPositive(), expected.toString());
+		if (b.isLong()) {
+			assertEquals(expected.longValue(), b.toLong());
+		}
+	}
+}
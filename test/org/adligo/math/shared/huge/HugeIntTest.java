@@ -0,0 +1,108 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks the limb representation of HugeInt against BigInteger, 
+ * for every kind of store.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class HugeIntTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testLimbsRoundTrip() {
+		Random r = new Random(1);
+		for (int bits : Values.BITS) {
+			for (int i = 0; i < 20; i++) {
+				BigInteger b = Values.signed(r, bits);
+				long [] mag = Limbs.fromBig(b);
+				assertEquals(b.abs(), Limbs.toBig(mag, false));
+				assertEquals(b, Limbs.toBig(mag, b.signum() < 0));
+				assertEquals(b.abs().bitLength(), Limbs.bitLength(mag));
+				if (mag.length > 0) {
+					assertTrue(mag[mag.length - 1] != 0L, "normalized");
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLimbsAddAndSubtract() {
+		Random r = new Random(2);
+		for (int x : Values.BITS) {
+			for (int y : Values.BITS) {
+				BigInteger a = new BigInteger(x, r);
+				BigInteger b = new BigInteger(y, r);
+				long [] la = Limbs.fromBig(a);
+				long [] lb = Limbs.fromBig(b);
+				assertEquals(a.add(b), Limbs.toBig(Limbs.add(la, lb), false));
+				assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(Limbs.compare(la, lb)));
+				if (a.compareTo(b) >= 0) {
+					assertEquals(a.subtract(b), Limbs.toBig(Limbs.subtract(la, lb), false));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testConversionsOfEachKind() {
+		Random r = new Random(3);
+		for (Values.Kind kind : Values.Kind.values()) {
+			for (int bits : Values.BITS) {
+				BigInteger b = Values.signed(r, bits);
+				HugeInt h = Values.of(kind, b, dir);
+				assertEquals(b, h.toBig(), kind + " " + bits);
+				assertEquals(b.signum() >= 0, h.isPositive());
+				assertEquals(b.bitLength(), h.bitLength());
+				assertEquals(b.abs(), new HugeInt(h.toStream(true)).toBig());
+				assertEquals(BigIntegerBuilder.split(b.abs()).collect(Collectors.toList()), 
+						Values.of(kind, b.abs(), dir).toStream(true).collect(Collectors.toList()));
+			}
+		}
+	}
+
+	@Test
+	public void testCompareTo() {
+		Random r = new Random(4);
+		Values.Kind [] kinds = Values.Kind.values();
+		for (int i = 0; i < 200; i++) {
+			BigInteger a = Values.signed(r, Values.BITS[r.nextInt(Values.BITS.length)]);
+			BigInteger b = r.nextInt(4) == 0 ? a : Values.signed(r, Values.BITS[r.nextInt(Values.BITS.length)]);
+			HugeInt ha = Values.of(kinds[r.nextInt(kinds.length)], a, dir);
+			HugeInt hb = Values.of(kinds[r.nextInt(kinds.length)], b, dir);
+			assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(ha.compareTo(hb)));
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that the limb cursors walk the same limbs as toLimbs.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class LimbCursorTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testEachKind() {
+		Random r = new Random(7);
+		for (Values.Kind kind : Values.Kind.values()) {
+			for (int bits : Values.BITS) {
+				BigInteger b = Values.signed(r, bits);
+				HugeInt h = Values.of(kind, b, dir);
+				long [] limbs = HugeInt.toLimbs(h);
+				String m = kind + " " + bits;
+				assertArrayEquals(limbs, walk(h.limbCursor(), limbs.length), m);
+				assertArrayEquals(limbs, walk(h.limbCursor(true), limbs.length), m);
+				assertArrayEquals(reverse(limbs), walk(h.limbCursor(false), limbs.length), m);
+				assertArrayEquals(limbs, walk(HugeInt.limbCursor(h), limbs.length), m);
+			}
+		}
+	}
+
+	@Test
+	public void testLongs() {
+		for (long l : new long [] {0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, -12345L}) {
+			HugeInt h = new HugeInt(l);
+			long [] limbs = HugeInt.toLimbs(h);
+			assertArrayEquals(limbs, walk(h.limbCursor(), limbs.length), "" + l);
+			assertArrayEquals(limbs, walk(h.limbCursor(false), limbs.length), "" + l);
+		}
+	}
+
+	@Test
+	public void testBuffersAndChunks() {
+		Random r = new Random(8);
+		for (int bits : Values.BITS) {
+			BigInteger b = Values.signed(r, bits);
+			long [] limbs = Limbs.fromBig(b.abs());
+			HugeIntBuffer buffer = new HugeIntBuffer().set(new HugeInt(b));
+			assertArrayEquals(limbs, walk(HugeInt.limbCursor(buffer), limbs.length));
+			// chunk cursors may end with zero limbs from the last chunk
+			long [] chunked = walk(new ChunkLimbCursor(BigIntegerBuilder.split(b.abs())), -1);
+			assertArrayEquals(limbs, Limbs.normalize(chunked, chunked.length), "" + bits);
+		}
+	}
+
+	@Test
+	public void testExhausted() {
+		I_LimbCursor c = new HugeInt(5).limbCursor();
+		c.next();
+		assertFalse(c.hasNext());
+		assertThrows(NoSuchElementException.class, () -> c.next());
+		I_LimbCursor z = HugeInt.ZERO.limbCursor();
+		assertFalse(z.hasNext());
+		assertThrows(NoSuchElementException.class, () -> z.next());
+		I_LimbCursor k = new ChunkLimbCursor(BigIntegerBuilder.split(BigInteger.TEN));
+		long [] ten = walk(k, -1);
+		assertArrayEquals(new long [] {10L}, Limbs.normalize(ten, ten.length));
+		assertFalse(k.hasNext());
+		assertThrows(NoSuchElementException.class, () -> k.next());
+	}
+
+	/**
+	 * @param length the limbs the cursor should have, or -1 for any number
+	 */
+	private static long[] walk(I_LimbCursor c, int length) {
+		long [] r = new long[16];
+		int n = 0;
+		while (c.hasNext()) {
+			if (n == r.length) {
+				r = Arrays.copyOf(r, n * 2);
+			}
+			r[n++] = c.next();
+		}
+		if (length >= 0 && n != length) {
+			throw new AssertionError("expected " + length + " limbs but walked " + n);
+		}
+		return Arrays.copyOf(r, n);
+	}
+
+	private static long[] reverse(long [] a) {
+		long [] r = new long[a.length];
+		for (int i = 0; i < a.length; i++) {
+			r[i] = a[a.length - 1 - i];
+		}
+		return r;
+	}
+}
@@ -0,0 +1,164 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks the memory mapped limb store, and that it doesn't 
+ * leak file descriptors or temporary files.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class MappedLimbsTest {
+	@TempDir
+	Path dir;
+
+	/**
+	 * writes random limbs across the first two segments of the store, 
+	 * and checks them against a array
+	 */
+	static void checkRandomWrites(BufferLimbs store, Random r) {
+		long [] ref = new long[8192];
+		long base = BufferLimbs.SEGMENT_LIMBS - ref.length / 2;
+		for (int i = 0; i < 20_000; i++) {
+			int j = r.nextInt(ref.length);
+			long v = r.nextInt(3) == 0 ? 0L : r.nextLong();
+			ref[j] = v;
+			store.set(base + j, v);
+			assertEquals(v, store.get(base + j));
+		}
+		long nonZero = -1;
+		for (int j = 0; j < ref.length; j++) {
+			assertEquals(ref[j], store.get(base + j));
+			if (nonZero == -1 && ref[j] != 0L) {
+				nonZero = base + j;
+			}
+		}
+		assertEquals(0L, store.get(0));
+		assertEquals(0L, store.get(base + ref.length + 1));
+		assertEquals(nonZero, store.lowestLimb());
+	}
+
+	@Test
+	public void testRandomWritesAcrossSegments() {
+		try (MappedLimbs store = MappedLimbs.newTemp()) {
+			checkRandomWrites(store, new Random(7));
+		}
+	}
+
+	@Test
+	public void testAddAndSubtractIntoTheStore() {
+		Random r = new Random(8);
+		for (int i = 0; i < 20; i++) {
+			BigInteger a = new BigInteger(Values.BITS[r.nextInt(Values.BITS.length)], r);
+			BigInteger b = new BigInteger(Values.BITS[r.nextInt(Values.BITS.length)], r);
+			LimbDelegate la = new LimbDelegate(Limbs.fromBig(a), false);
+			LimbDelegate lb = new LimbDelegate(Limbs.fromBig(b), false);
+			try (MappedLimbs sum = MappedLimbs.newTemp(); MappedLimbs difference = MappedLimbs.newTemp()) {
+				sum.add(la, lb);
+				assertEquals(a.add(b), sum.toDelegate(false).toBigInteger());
+				if (a.compareTo(b) >= 0) {
+					difference.subtract(la, lb);
+				} else {
+					difference.subtract(lb, la);
+				}
+				assertEquals(a.subtract(b).abs(), difference.toDelegate(false).toBigInteger());
+			}
+		}
+	}
+
+	@Test
+	public void testCloseDeletesTheTemporaryFile() {
+		File tmp = new File(System.getProperty("java.io.tmpdir"));
+		Set<String> before = names(tmp);
+		MappedLimbs store = MappedLimbs.newTemp();
+		store.set(3, 7L);
+		Set<String> added = names(tmp);
+		added.removeAll(before);
+		assertEquals(1, added.size());
+		File file = new File(tmp, added.iterator().next());
+		assertTrue(file.exists());
+		store.close();
+		assertFalse(file.exists());
+		assertThrows(IllegalStateException.class, () -> store.get(3));
+		assertThrows(IllegalStateException.class, () -> store.set(3, 1L));
+		store.close();
+	}
+
+	@Test
+	public void testCloseKeepsTheCallersFile() {
+		File file = dir.resolve("kept.limbs").toFile();
+		MappedLimbs store = new MappedLimbs(file);
+		store.set(BufferLimbs.SEGMENT_LIMBS, 1L);
+		store.close();
+		assertTrue(file.exists());
+	}
+
+	@Test
+	public void testNoFileDescriptorsAreHeld() {
+		File fds = new File("/proc/self/fd");
+		Assumptions.assumeTrue(fds.isDirectory(), "needs /proc");
+		int before = fds.list().length;
+		MappedLimbs [] stores = new MappedLimbs[50];
+		for (int i = 0; i < stores.length; i++) {
+			stores[i] = MappedLimbs.newTemp();
+			stores[i].set(BufferLimbs.SEGMENT_LIMBS + i, i + 1L);
+		}
+		assertTrue(fds.list().length <= before + 2, "file descriptors are held");
+		for (MappedLimbs s : stores) {
+			s.close();
+		}
+	}
+
+	@Test
+	public void testMappedValues() {
+		Random r = new Random(9);
+		for (int bits : Values.BITS) {
+			BigInteger a = Values.signed(r, bits);
+			BigInteger b = Values.signed(r, bits + 70);
+			HugeInt ha = Values.of(Values.Kind.MAPPED, a, dir);
+			HugeInt hb = Values.of(Values.Kind.MAPPED, b, dir);
+			assertEquals(a, ha.toBig());
+			assertEquals(a.add(b), ((HugeInt) ha.add(hb)).toBig());
+			assertEquals(a.multiply(b), ha.multiply(hb).toBig());
+		}
+	}
+
+	private static Set<String> names(File tmp) {
+		return new HashSet<>(Arrays.asList(tmp.list((d, name) -> name.startsWith("hugeInt") && name.endsWith(".limbs"))));
+	}
+}
@@ -0,0 +1,122 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks schoolbook, Karatsuba, Toom-3 and the unbalanced products, 
+ * and HugeInt multiply, square and pow against BigInteger.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class MultiplyTest {
+	private static final int [] LIMBS = {0, 1, 2, Multiply.KARATSUBA_LIMBS - 1, Multiply.KARATSUBA_LIMBS, 
+			Multiply.TOOM3_LIMBS - 1, Multiply.TOOM3_LIMBS, 300, Multiply.PARALLEL_LIMBS + 7};
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testLimbProducts() {
+		Random r = new Random(14);
+		for (int x : LIMBS) {
+			for (int y : LIMBS) {
+				BigInteger a = new BigInteger(x * 64, r);
+				BigInteger b = new BigInteger(y * 64, r);
+				long [] la = Limbs.fromBig(a);
+				long [] lb = Limbs.fromBig(b);
+				assertEquals(a.multiply(b), Limbs.toBig(Multiply.multiply(la, lb), false), x + " * " + y);
+				assertEquals(a.multiply(a), Limbs.toBig(Multiply.multiply(la, la), false), x + "^2");
+			}
+		}
+	}
+
+	@Test
+	public void testStreamedByBlocks() {
+		Random r = new Random(15);
+		int [] limbs = {1, Multiply.STREAM_LIMBS - 1, Multiply.STREAM_LIMBS * 2 + 5};
+		for (int x : limbs) {
+			for (int y : new int [] {1, 50, Ntt.NTT_LIMBS - 1}) {
+				BigInteger a = new BigInteger(x * 64, r);
+				BigInteger b = new BigInteger(y * 64, r);
+				try (DirectLimbs out = new DirectLimbs()) {
+					Multiply.multiply(new LimbDelegate(Limbs.fromBig(a), false), Limbs.fromBig(b), out);
+					assertEquals(a.multiply(b), out.toDelegate(false).toBigInteger(), x + " * " + y);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testBothOperandsByBlocks() {
+		Random r = new Random(18);
+		for (int k : new int [] {1, 7, 64}) {
+			for (int x : new int [] {1, 63, 64, 200}) {
+				for (int y : new int [] {1, 65, 130}) {
+					BigInteger a = new BigInteger(x * 64, r);
+					BigInteger b = new BigInteger(y * 64, r);
+					LimbDelegate da = new LimbDelegate(Limbs.fromBig(a), false);
+					try (DirectLimbs out = new DirectLimbs()) {
+						Multiply.multiply(da, new LimbDelegate(Limbs.fromBig(b), false), k, out);
+						assertEquals(a.multiply(b), out.toDelegate(false).toBigInteger(), k + " " + x + " * " + y);
+					}
+					try (DirectLimbs out = new DirectLimbs()) {
+						Multiply.multiply(da, da, k, out);
+						assertEquals(a.multiply(a), out.toDelegate(false).toBigInteger(), k + " " + x + "^2");
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testMultiplyOfEachKind() {
+		Random r = new Random(16);
+		for (Values.Kind ka : Values.Kind.values()) {
+			for (Values.Kind kb : Values.Kind.values()) {
+				for (int i = 0; i < 10; i++) {
+					BigInteger a = Values.signed(r, Values.BITS[r.nextInt(Values.BITS.length)]);
+					BigInteger b = Values.signed(r, Values.BITS[r.nextInt(Values.BITS.length)]);
+					HugeInt ha = Values.of(ka, a, dir);
+					HugeInt hb = Values.of(kb, b, dir);
+					assertEquals(a.multiply(b), ha.multiply(hb).toBig(), ka + " " + kb);
+					assertEquals(a.multiply(a), ha.square().toBig(), ka + " " + kb);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testPow() {
+		Random r = new Random(17);
+		for (int e = 0; e < 40; e++) {
+			BigInteger a = Values.signed(r, 1 + r.nextInt(300));
+			assertEquals(a.pow(e), new HugeInt(a).pow(e).toBig());
+		}
+	}
+}
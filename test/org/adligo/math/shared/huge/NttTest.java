@@ -0,0 +1,103 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks the three prime number theoretic transform product against BigInteger,
+ * including all ones operands, which have the largest convolution terms.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class NttTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testProducts() {
+		Random r = new Random(18);
+		int [] limbs = {1, 2, 3, 17, 255, 256, 257, 1000, Ntt.NTT_LIMBS + 1};
+		for (int x : limbs) {
+			for (int y : limbs) {
+				BigInteger a = new BigInteger(x * 64, r).setBit(x * 64 - 1);
+				BigInteger b = new BigInteger(y * 64, r).setBit(y * 64 - 1);
+				long [] la = Limbs.fromBig(a);
+				long [] lb = Limbs.fromBig(b);
+				assertEquals(a.multiply(b), Limbs.toBig(Ntt.multiply(la, lb), false), x + " * " + y);
+			}
+			BigInteger a = new BigInteger(x * 64, r);
+			long [] la = Limbs.fromBig(a);
+			assertEquals(a.multiply(a), Limbs.toBig(Ntt.multiply(la, la), false), x + "^2");
+		}
+	}
+
+	@Test
+	public void testAllOnes() {
+		for (int x : new int [] {1, 100, Ntt.NTT_LIMBS, 5000}) {
+			BigInteger ones = BigInteger.ONE.shiftLeft(x * 64).subtract(BigInteger.ONE);
+			long [] l = Limbs.fromBig(ones);
+			assertEquals(ones.multiply(ones), Limbs.toBig(Ntt.multiply(l, l), false), "" + x);
+			assertEquals(ones.multiply(ones), Limbs.toBig(Ntt.multiply(l, l.clone()), false), "" + x);
+		}
+	}
+
+	@Test
+	public void testStoresAreReadStraightIntoTheTransforms() {
+		Random r = new Random(19);
+		for (Values.Kind kind : new Values.Kind [] {Values.Kind.OFF_HEAP, Values.Kind.MAPPED}) {
+			BigInteger a = Values.exact(r, Ntt.NTT_LIMBS * 64 + 100);
+			BigInteger b = Values.exact(r, Ntt.NTT_LIMBS * 64 * 3);
+			HugeInt ha = Values.of(kind, a, dir);
+			HugeInt hb = Values.of(kind, b, dir);
+			assertEquals(a.multiply(b), ha.multiply(hb).toBig(), kind.name());
+			assertEquals(a.multiply(a), ha.square().toBig(), kind.name());
+		}
+	}
+
+	@Test
+	public void testFits() {
+		assertTrue(Ntt.fits(Ntt.MAX_LENGTH / 2, Ntt.MAX_LENGTH / 2));
+		assertFalse(Ntt.fits(Ntt.MAX_LENGTH / 2, Ntt.MAX_LENGTH / 2 + 1));
+	}
+
+	@Test
+	public void testTheHeapLimit() {
+		assertEquals(1L << 20, Ntt.length((1L << 19) + 1));
+		assertEquals(1L << 20, Ntt.length(1L << 20));
+		assertEquals(36L << 20, Ntt.heapBytes(1L << 20));
+		assertTrue(Ntt.fitsHeap(Ntt.NTT_LIMBS * 2L));
+		assertFalse(Ntt.fitsHeap(Runtime.getRuntime().maxMemory()));
+		int k = Ntt.blockLimbs();
+		assertTrue(k >= Ntt.NTT_LIMBS);
+		assertEquals(k, Integer.highestOneBit(k));
+		assertTrue(Ntt.heapBytes(2L * k) <= Runtime.getRuntime().maxMemory());
+	}
+}
@@ -0,0 +1,78 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the block carry lookahead add and subtract against BigInteger,
+ * with carries and borrows that ripple across whole blocks.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class ParallelAddTest {
+	private static final int [] LIMBS = {1, ParallelAdd.MIN_BLOCK - 1, ParallelAdd.MIN_BLOCK, 
+			ParallelAdd.MIN_BLOCK * 5 + 3, ParallelAdd.MIN_BLOCK * 17};
+
+	@Test
+	public void testAddAndSubtract() {
+		Random r = new Random(13);
+		for (int x : LIMBS) {
+			for (int y : LIMBS) {
+				check(new BigInteger(x * 64, r), new BigInteger(y * 64, r));
+			}
+		}
+	}
+
+	@Test
+	public void testCarriesAcrossBlocks() {
+		for (int x : LIMBS) {
+			BigInteger ones = BigInteger.ONE.shiftLeft(x * 64).subtract(BigInteger.ONE);
+			check(ones, BigInteger.ONE);
+			check(ones.shiftLeft(64), BigInteger.ONE.shiftLeft(64));
+			//borrows through zero limbs
+			check(BigInteger.ONE.shiftLeft(x * 64), BigInteger.ONE);
+		}
+	}
+
+	private static void check(BigInteger a, BigInteger b) {
+		LimbDelegate la = new LimbDelegate(Limbs.fromBig(a), false);
+		LimbDelegate lb = new LimbDelegate(Limbs.fromBig(b), false);
+		assertEquals(a.add(b), Limbs.toBig(ParallelAdd.add(la, lb), false));
+		try (DirectLimbs out = new DirectLimbs()) {
+			ParallelAdd.add(la, lb, out);
+			assertEquals(a.add(b), out.toDelegate(false).toBigInteger());
+		}
+		LimbDelegate big = a.compareTo(b) >= 0 ? la : lb;
+		LimbDelegate little = big == la ? lb : la;
+		BigInteger d = a.subtract(b).abs();
+		assertEquals(d, Limbs.toBig(ParallelAdd.subtract(big, little), false));
+		try (DirectLimbs out = new DirectLimbs()) {
+			ParallelAdd.subtract(big, little, out);
+			assertEquals(d, out.toDelegate(false).toBigInteger());
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks writing and parsing digits in every radix against BigInteger.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class RadixTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testEveryRadix() {
+		Random r = new Random(24);
+		for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+			for (int bits : Values.BITS) {
+				BigInteger a = Values.signed(r, bits);
+				String digits = a.toString(radix);
+				String m = radix + " " + bits;
+				assertEquals(digits, Values.of(Values.Kind.HEAP, a, dir).toString(radix), m);
+				assertEquals(a, HugeInt.parse(digits, radix).toBig(), m);
+				assertEquals(a, HugeInt.parse(digits.toUpperCase(), radix).toBig(), m);
+			}
+		}
+	}
+
+	@Test
+	public void testKindsAndLeadingZeros() {
+		Random r = new Random(25);
+		for (Values.Kind kind : Values.Kind.values()) {
+			for (int radix : new int [] {2, 10, 16, 36}) {
+				// has long runs of zero limbs, which are written as padded leaves
+				BigInteger a = Values.exact(r, 30_000).shiftLeft(20_000).add(BigInteger.valueOf(radix - 1));
+				assertEquals(a.toString(radix), Values.of(kind, a, dir).toString(radix), kind + " " + radix);
+				assertEquals(a.negate().toString(radix), Values.of(kind, a.negate(), dir).toString(radix));
+			}
+		}
+		assertEquals(BigInteger.valueOf(255), HugeInt.parse("+0000ff", 16).toBig());
+		assertEquals(BigInteger.valueOf(-7), HugeInt.parse("-000111", 2).toBig());
+		assertEquals(BigInteger.ZERO, HugeInt.parse("-0").toBig());
+	}
+
+	/**
+	 * past {@link Radix#FORK_DIGITS} the parse forks
+	 */
+	@Test
+	public void testLargeWriteAndRead() throws IOException {
+		BigInteger a = Values.exact(new Random(26), Radix.FORK_DIGITS * 4).negate();
+		for (int radix : new int [] {10, 7}) {
+			StringWriter w = new StringWriter();
+			HugeInt h = Values.of(Values.Kind.OFF_HEAP, a, dir);
+			h.write(w, radix);
+			String digits = w.toString();
+			assertEquals(a.toString(radix), digits);
+			assertEquals(a, HugeInt.read(new StringReader(digits), radix).toBig());
+		}
+	}
+
+	@Test
+	public void testErrors() {
+		NumberFormatException x = assertThrows(NumberFormatException.class, () -> HugeInt.parse("12", 1));
+		assertEquals(HugeInt.THE_RADIX_IS_OUT_OF_RANGE, x.getMessage());
+		x = assertThrows(NumberFormatException.class, () -> HugeInt.parse("12", 37));
+		assertEquals(HugeInt.THE_RADIX_IS_OUT_OF_RANGE, x.getMessage());
+		x = assertThrows(NumberFormatException.class, () -> HugeInt.parse(""));
+		assertEquals(HugeInt.A_DIGIT_IS_REQUIRED, x.getMessage());
+		x = assertThrows(NumberFormatException.class, () -> HugeInt.parse("-"));
+		assertEquals(HugeInt.A_DIGIT_IS_REQUIRED, x.getMessage());
+		x = assertThrows(NumberFormatException.class, () -> HugeInt.parse("12a"));
+		assertEquals(HugeInt.THE_CHARACTER_IS_NOT_A_DIGIT_OF_THE_RADIX, x.getMessage());
+		x = assertThrows(NumberFormatException.class, () -> HugeInt.parse("102", 2));
+		assertEquals(HugeInt.THE_CHARACTER_IS_NOT_A_DIGIT_OF_THE_RADIX, x.getMessage());
+
+		// like BigInteger a out of range radix writes decimal digits
+		BigInteger a = Values.exact(new Random(27), 500);
+		HugeInt h = HugeInt.parse(a.toString());
+		assertEquals(a.toString(40), h.toString(40));
+		assertEquals(a.toString(1), h.toString(1));
+	}
+}
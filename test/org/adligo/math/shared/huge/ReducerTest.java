@@ -0,0 +1,104 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the Montgomery and Barrett reducers, and the modular 
+ * arithmetic of ModCtx built on them, against BigInteger.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class ReducerTest {
+	private static final int [] LIMBS = {1, 2, 5, MontgomeryReducer.MULTIPLY_LIMBS - 1, 
+			MontgomeryReducer.MULTIPLY_LIMBS, MontgomeryReducer.MULTIPLY_LIMBS + 1, 200};
+
+	@Test
+	public void testMontgomery() {
+		Random r = new Random(23);
+		for (int n : LIMBS) {
+			BigInteger m = new BigInteger(n * 64, r).setBit(0).setBit(n * 64 - 1);
+			check(new MontgomeryReducer(Limbs.fromBig(m)), m, r);
+		}
+	}
+
+	@Test
+	public void testBarrett() {
+		Random r = new Random(24);
+		for (int n : LIMBS) {
+			BigInteger m = new BigInteger(n * 64, r).setBit(n * 64 - 1);
+			check(new BarrettReducer(Limbs.fromBig(m)), m, r);
+			check(new BarrettReducer(Limbs.fromBig(m.clearBit(0))), m.clearBit(0), r);
+		}
+	}
+
+	@Test
+	public void testNewReducer() {
+		assertTrue(Reducer.newReducer(Limbs.fromBig(BigInteger.valueOf(101))) instanceof MontgomeryReducer);
+		assertTrue(Reducer.newReducer(Limbs.fromBig(BigInteger.valueOf(100))) instanceof BarrettReducer);
+	}
+
+	@Test
+	public void testModCtx() {
+		Random r = new Random(25);
+		for (int n : LIMBS) {
+			for (BigInteger m : new BigInteger [] {new BigInteger(n * 64, r).setBit(0).setBit(n * 64 - 1),
+					new BigInteger(n * 64, r).clearBit(0).setBit(n * 64 - 1)}) {
+				ModCtx ctx = new ModCtx(m);
+				assertEquals(m.testBit(0), ctx.isMontgomery());
+				BigInteger a = Values.signed(r, n * 64 + 30);
+				BigInteger b = new BigInteger(n * 64, r);
+				BigInteger e = new BigInteger(1 + r.nextInt(200), r);
+				assertEquals(a.mod(m), ctx.mod(a));
+				assertEquals(a.multiply(b).mod(m), ctx.multiply(a, b));
+				assertEquals(a.multiply(a).mod(m), ctx.square(a));
+				assertEquals(a.mod(m).modPow(e, m), ctx.pow(a.mod(m), e));
+				assertEquals(a.mod(m).modPow(e, m), new HugeInt(a).modPow(new HugeInt(e), new HugeInt(m)).toBig());
+			}
+		}
+	}
+
+	private static void check(Reducer reducer, BigInteger m, Random r) {
+		BigInteger max = m.subtract(BigInteger.ONE);
+		assertEquals(BigInteger.ONE.mod(m), toBig(reducer.fromForm(reducer.one())));
+		for (int i = 0; i < 50; i++) {
+			BigInteger a = i == 0 ? max : new BigInteger(m.bitLength() + 10, r).mod(m);
+			BigInteger b = i == 0 ? max : new BigInteger(m.bitLength() + 10, r).mod(m);
+			long [] fa = reducer.toForm(Limbs.fromBig(a));
+			long [] fb = reducer.toForm(Limbs.fromBig(b));
+			assertEquals(a, toBig(reducer.fromForm(fa)));
+			assertEquals(a.multiply(b).mod(m), toBig(reducer.fromForm(reducer.multiply(fa, fb))));
+			assertEquals(a.multiply(a).mod(m), toBig(reducer.fromForm(reducer.square(fa))));
+			assertEquals(a.multiply(b).mod(m), toBig(reducer.modMultiply(Limbs.fromBig(a), Limbs.fromBig(b))));
+		}
+	}
+
+	private static BigInteger toBig(long [] mag) {
+		return Limbs.toBig(mag, false);
+	}
+}
@@ -0,0 +1,90 @@
+package org.adligo.math.shared.huge;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Times splitting a BigInteger into chunks and ingesting them into a HugeInt,
+ * with {@link BigIntegerBuilder#split(BigInteger)} and with the hex string split
+ * it replaced ({@link BigIntegerBuilderTest#hexSplit(BigInteger)}).
+ * Run it after compiling the test tree, for example with gradle
+ * <pre><code>
+ * gradle testClasses
+ * java -Xmx4g -cp build/classes/java/main:build/classes/java/test \
+ *   org.adligo.math.shared.huge.SplitBenchmark 8000000 80000000
+ * </code></pre>
+ * The arguments are the bit lengths to time (8M and 80M by default),
+ * the hex split is skipped past -Dhex.max.bits (16M by default) as it is quadratic.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class SplitBenchmark {
+	static final int RUNS = 5;
+
+	public static void main(String [] args) {
+		long hexMaxBits = Long.getLong("hex.max.bits", 16_000_000L);
+		String [] sizes = args.length == 0 ? new String [] {"8000000", "80000000"} : args;
+		Random r = new Random(25);
+		//warms up both splits
+		for (int i = 0; i < 20; i++) {
+			BigInteger b = new BigInteger(1 << 16, r);
+			sink(new HugeInt(BigIntegerBuilder.split(b)));
+			sink(new HugeInt(BigIntegerBuilderTest.hexSplit(b).stream()));
+		}
+		System.out.println("bits\tsplit\thex split");
+		for (String size : sizes) {
+			int bits = Integer.parseInt(size);
+			BigInteger b = new BigInteger(bits, r);
+			long split = best(() -> sink(new HugeInt(BigIntegerBuilder.split(b))));
+			String hex = "skipped";
+			if (bits <= hexMaxBits) {
+				hex = (best(() -> {
+					List<BigInteger> chunks = BigIntegerBuilderTest.hexSplit(b);
+					sink(new HugeInt(chunks.stream()));
+				}) / 1_000_000) + "ms";
+			}
+			System.out.println(bits + "\t" + (split / 1_000_000) + "ms\t" + hex);
+		}
+	}
+
+	/**
+	 * @param run
+	 * @return the fastest of {@link #RUNS} runs in nanoseconds
+	 */
+	private static long best(Runnable run) {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < RUNS; i++) {
+			long start = System.nanoTime();
+			run.run();
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		return best;
+	}
+
+	private static void sink(HugeInt h) {
+		if (h.bitLength() < 0) {
+			throw new IllegalStateException();
+		}
+	}
+}
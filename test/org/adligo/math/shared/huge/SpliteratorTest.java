@@ -0,0 +1,131 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that the limb and chunk spliterators split into exactly sized
+ * pieces which cover every position once, and that parallel streams 
+ * over them reduce like sequential ones.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class SpliteratorTest {
+	private static final long [] LIMBS = {0, 1, 2, LimbSpliterator.MIN_SPLIT - 1, LimbSpliterator.MIN_SPLIT, 
+			LimbSpliterator.MIN_SPLIT * 3 + 1, LimbSpliterator.MIN_SPLIT * 16 + 7};
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testLimbSplitsCoverEachIndexOnce() {
+		for (long n : LIMBS) {
+			long [] limbs = new long[(int) n];
+			for (int i = 0; i < limbs.length; i++) {
+				limbs[i] = i + 1;
+			}
+			LimbDelegate d = new LimbDelegate(limbs, false);
+			List<Long> walked = new ArrayList<>();
+			splitAll(new LimbSpliterator(d, 0, n), walked);
+			assertEquals(n, walked.size());
+			for (int i = 0; i < n; i++) {
+				assertEquals(i + 1, walked.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void testChunkSplitsCoverEachIndexOnce() {
+		Random r = new Random(8);
+		long [] chunks = {0, 1, 2, ChunkSpliterator.MIN_SPLIT - 1, ChunkSpliterator.MIN_SPLIT, 
+				ChunkSpliterator.MIN_SPLIT * 5 + 3};
+		for (long c : chunks) {
+			BigInteger b = c == 0 ? BigInteger.ZERO : Values.exact(r, (int) (Limbs.CHUNK_BITS * (c - 1)) + 1);
+			LimbDelegate d = new LimbDelegate(Limbs.fromBig(b), false);
+			assertEquals(c, d.chunkCount());
+			for (boolean littleToBig : new boolean [] {true, false}) {
+				List<BigInteger> expected = new ArrayList<>();
+				for (long i = 0; i < c; i++) {
+					expected.add(d.chunk(littleToBig ? i : c - 1 - i));
+				}
+				List<BigInteger> walked = new ArrayList<>();
+				splitAll(new ChunkSpliterator(d, littleToBig, 0, c), walked);
+				assertEquals(expected, walked, c + " " + littleToBig);
+			}
+		}
+	}
+
+	@Test
+	public void testParallelStreamsMatchSequential() {
+		Random r = new Random(9);
+		for (Values.Kind kind : Values.Kind.values()) {
+			for (long n : LIMBS) {
+				BigInteger b = n == 0 ? BigInteger.ZERO : Values.exact(r, (int) (n * 64 - 3)).negate();
+				HugeInt h = Values.of(kind, b, dir);
+				String m = kind + " " + n;
+				long [] limbs = HugeInt.toLimbs(h);
+				assertArrayEquals(limbs, h.toLimbStream(false).toArray(), m);
+				assertArrayEquals(limbs, h.toLimbStream(true).toArray(), m);
+				assertEquals(b.abs().bitCount(), h.toLimbStream(true).map(Long::bitCount).sum(), m);
+				assertEquals(h.toLimbStream(false).reduce(0L, Long::sum), h.toLimbStream(true).reduce(0L, Long::sum), m);
+				for (boolean littleToBig : new boolean [] {true, false}) {
+					List<BigInteger> sequential = h.toStream(littleToBig).collect(Collectors.toList());
+					assertEquals(sequential, h.toStream(littleToBig).parallel().collect(Collectors.toList()), m);
+				}
+				assertEquals(b.abs().bitCount(), h.toStream(true).parallel().mapToInt(BigInteger::bitCount).sum(), m);
+			}
+		}
+	}
+
+	/**
+	 * splits recursively, checking the size of each piece, and walks the 
+	 * prefixes before the rest so the list is in encounter order
+	 */
+	private static <T> void splitAll(Spliterator<T> s, List<T> out) {
+		assertTrue(s.hasCharacteristics(Spliterator.SIZED));
+		assertTrue(s.hasCharacteristics(Spliterator.SUBSIZED));
+		long size = s.estimateSize();
+		assertEquals(size, s.getExactSizeIfKnown());
+		int before = out.size();
+		Spliterator<T> prefix = s.trySplit();
+		if (prefix != null) {
+			assertEquals(size, prefix.estimateSize() + s.estimateSize());
+			splitAll(prefix, out);
+			splitAll(s, out);
+		} else {
+			s.forEachRemaining(out::add);
+		}
+		assertEquals(size, out.size() - before);
+	}
+}
@@ -0,0 +1,93 @@
+package org.adligo.math.shared.huge;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Random operands, and the kinds of HugeInt they can be kept in, 
+ * for the differential tests which check each operation against BigInteger.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+final class Values {
+	/**
+	 * bit lengths at and around the limb, chunk, Karatsuba and Toom-3 boundaries
+	 */
+	static final int [] BITS = {0, 1, 31, 63, 64, 65, 127, 128, 129, 1000, 
+			Multiply.KARATSUBA_LIMBS * 64 - 1, Multiply.TOOM3_LIMBS * 64 + 1, 20_000};
+
+	enum Kind {
+		HEAP, OFF_HEAP, MAPPED
+	}
+
+	private Values() {}
+
+	/**
+	 * @param r
+	 * @param bits
+	 * @return a random value of up to bits bits with a random sign
+	 */
+	static BigInteger signed(Random r, int bits) {
+		BigInteger b = new BigInteger(bits, r);
+		return r.nextBoolean() ? b.negate() : b;
+	}
+
+	/**
+	 * @param r
+	 * @param bits
+	 * @return a random value with exactly bits bits, and a random sign
+	 */
+	static BigInteger exact(Random r, int bits) {
+		if (bits == 0) {
+			return BigInteger.ZERO;
+		}
+		BigInteger b = new BigInteger(bits, r).setBit(bits - 1);
+		return r.nextBoolean() ? b.negate() : b;
+	}
+
+	/**
+	 * @param kind
+	 * @param b
+	 * @param dir a temporary directory for mapped values
+	 * @return b kept in a HugeInt of the kind
+	 */
+	static HugeInt of(Kind kind, BigInteger b, Path dir) {
+		HugeInt h = new HugeInt(b);
+		switch (kind) {
+			case OFF_HEAP:
+				return HugeInt.toOffHeap(h);
+			case MAPPED:
+				try {
+					return HugeInt.toExternal(h, Files.createTempFile(dir, "value", ".limbs").toFile());
+				} catch (IOException x) {
+					throw new UncheckedIOException(x);
+				}
+			default:
+				return h;
+		}
+	}
+}
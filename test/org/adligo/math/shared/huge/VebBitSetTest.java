@@ -0,0 +1,167 @@
+package org.adligo.math.shared.huge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the VebBitSet against a TreeSet in each of it's storages.
+ *
+ *
+ * @author scott<br/>
+ *         <br/>
+ *
+ * <pre><code>
+ * ---------------- Apache ICENSE-2.0 --------------------------
+ *
+ * Copyright 2025 Adligo Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </code><pre>
+ */
+public class VebBitSetTest {
+
+	@Test
+	public void testHeap() {
+		check(new VebBitSet(100_000), new Random(21));
+		check(new VebBitSet(1), new Random(22));
+		check(new VebBitSet(65), new Random(23));
+	}
+
+	@Test
+	public void testOffHeap() {
+		try (VebBitSet s = VebBitSet.offHeap(1L << 32)) {
+			check(s, new Random(24));
+			long top = (1L << 32) - 1;
+			assertTrue(s.insert(top));
+			assertEquals(top, s.max());
+			assertEquals(VebBitSet.NONE, s.successor(top));
+		}
+	}
+
+	@Test
+	public void testExternal() {
+		try (VebBitSet s = VebBitSet.external(1L << 60)) {
+			check(s, new Random(25));
+		}
+	}
+
+	/**
+	 * at power of two universes a search past the last set bit runs off 
+	 * the last word of a level which fills it's segments
+	 */
+	@Test
+	public void testSearchesPastTheLastSetBit() {
+		for (int shift : new int [] {18, 24, 30, 36}) {
+			long u = 1L << shift;
+			try (VebBitSet s = VebBitSet.offHeap(u)) {
+				checkPastTheLastSetBit(s);
+			}
+			try (VebBitSet s = VebBitSet.external(u)) {
+				checkPastTheLastSetBit(s);
+			}
+		}
+		try (VebBitSet s = VebBitSet.external(1L << 35)) {
+			checkPastTheLastSetBit(s);
+		}
+		checkPastTheLastSetBit(new VebBitSet(1L << 30));
+	}
+
+	private static void checkPastTheLastSetBit(VebBitSet s) {
+		long u = s.getUniverse();
+		assertTrue(s.insert(5));
+		for (long i : new long [] {6, u - 65, u - 64, u - 3, u - 2, u - 1}) {
+			assertEquals(VebBitSet.NONE, s.successor(i), u + " " + i);
+			assertEquals(5L, s.predecessor(i), u + " " + i);
+		}
+		assertTrue(s.insert(u - 64));
+		assertEquals(u - 64, s.successor(5));
+		assertEquals(VebBitSet.NONE, s.successor(u - 64));
+		assertEquals(VebBitSet.NONE, s.successor(u - 2));
+		assertEquals(u - 64, s.predecessor(u));
+		assertEquals(u - 64, s.max());
+	}
+
+	@Test
+	public void testErrors() {
+		IllegalArgumentException x = assertThrows(IllegalArgumentException.class, () -> new VebBitSet(0));
+		assertEquals(VebBitSet.THE_UNIVERSE_MUST_BE_POSITIVE, x.getMessage());
+		x = assertThrows(IllegalArgumentException.class, () -> new VebBitSet(1L << 40));
+		assertEquals(VebBitSet.THE_UNIVERSE_IS_TOO_LARGE_FOR_THE_HEAP, x.getMessage());
+		VebBitSet s = new VebBitSet(10);
+		x = assertThrows(IllegalArgumentException.class, () -> s.insert(10));
+		assertEquals(VebBitSet.THE_INDEX_MUST_BE_IN_THE_UNIVERSE, x.getMessage());
+		x = assertThrows(IllegalArgumentException.class, () -> s.member(-1));
+		assertEquals(VebBitSet.THE_INDEX_MUST_BE_IN_THE_UNIVERSE, x.getMessage());
+
+		VebBitSet o = VebBitSet.offHeap(1L << 20);
+		o.insert(5);
+		o.close();
+		IllegalStateException y = assertThrows(IllegalStateException.class, () -> o.member(5));
+		assertEquals(VebBitSet.THE_BIT_SET_IS_CLOSED, y.getMessage());
+		VebBitSet e = VebBitSet.external(1L << 20);
+		e.close();
+		y = assertThrows(IllegalStateException.class, () -> e.insert(5));
+		assertEquals(VebBitSet.THE_BIT_SET_IS_CLOSED, y.getMessage());
+	}
+
+	/**
+	 * inserts and deletes clustered and scattered indexes, then compares
+	 * every query with the TreeSet
+	 */
+	static void check(VebBitSet s, Random r) {
+		long u = s.getUniverse();
+		TreeSet<Long> t = new TreeSet<>();
+		assertTrue(s.isEmpty());
+		assertEquals(VebBitSet.NONE, s.min());
+		assertEquals(VebBitSet.NONE, s.max());
+		long base = u <= 4096 ? 0 : r.nextLong(u - 4096);
+		for (int i = 0; i < 3000; i++) {
+			long index = i % 3 == 0 ? r.nextLong(u) : base + r.nextLong(Math.min(u, 4096));
+			if (r.nextInt(4) == 0) {
+				assertEquals(t.remove(index), s.delete(index));
+			} else {
+				assertEquals(t.add(index), s.insert(index));
+			}
+		}
+		assertEquals(t.size(), s.size());
+		assertEquals(t.isEmpty(), s.isEmpty());
+		assertEquals(t.isEmpty() ? VebBitSet.NONE : t.first(), s.min());
+		assertEquals(t.isEmpty() ? VebBitSet.NONE : t.last(), s.max());
+		for (int i = 0; i < 3000; i++) {
+			long index = i % 2 == 0 ? r.nextLong(u) : base + r.nextLong(Math.min(u, 4096));
+			assertEquals(t.contains(index), s.member(index));
+			Long h = t.higher(index);
+			assertEquals(h == null ? VebBitSet.NONE : h, s.successor(index));
+			Long l = t.lower(index);
+			assertEquals(l == null ? VebBitSet.NONE : l, s.predecessor(index));
+		}
+		long walked = 0;
+		for (long i = s.min(); i != VebBitSet.NONE; i = s.successor(i)) {
+			assertTrue(t.contains(i));
+			walked++;
+		}
+		assertEquals(t.size(), walked);
+		for (Long i : t) {
+			assertTrue(s.delete(i));
+		}
+		assertTrue(s.isEmpty());
+		assertFalse(s.member(t.isEmpty() ? 0 : t.first()));
+	}
+}